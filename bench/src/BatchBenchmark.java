@@ -0,0 +1,132 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: BatchBenchmark.java contains JMH benchmarks of BatchEvaluator against one BinaryBoard per      **
+********************** position. Every operation scores the same 65,536 random positions (fixed seed, reachable with  **
+********************** x first, so bestMove() is a PerfectPlayTable lookup), split into batches of the size given, so **
+********************** the scores are comparable across sizes. The forked JVM is started with the Vector API module; **
+********************** useVector=false measures the scalar loop.                                                      **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) BatchBenchmark      Holds the positions (whole and split into batches) and the output arrays.                   **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) objectGameEnds()    measures new BinaryBoard(state, turn).gameEnd() and win() per position.                     **
+** 2) batchGameEnds()     measures BatchEvaluator.gameEnds() batch by batch.                                          **
+** 3) objectEvaluate()    measures the same plus bestMove() per position.                                             **
+** 4) batchEvaluate()     measures BatchEvaluator.evaluate() batch by batch.                                          **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@OperationsPerInvocation(BatchBenchmark.POSITIONS)                    // Scores are per position
+@State(Scope.Thread)
+public class BatchBenchmark {
+
+  static final int POSITIONS = 1 << 16;
+
+  @Param({ "16", "256", "4096", "65536" })                            // Positions per call
+  public int batch;
+
+  @Param({ "true", "false" })                                         // Vector API or scalar loop
+  public boolean useVector;
+
+  int[] states = new int[POSITIONS];
+  char[] turns = new char[POSITIONS];
+  int[][] stateBatches;                                               // The same positions split into batches
+  char[][] turnBatches;
+  boolean[] gameOver = new boolean[POSITIONS];
+  char[] winners = new char[POSITIONS];
+  int[] bestMoves = new int[POSITIONS];
+
+
+  @Setup
+  public void setUp() {
+    BatchEvaluator.useVector = useVector;
+    Random random = new Random(42);
+    for (int i = 0; i < POSITIONS; i++) {                             // A random game stopped after 0 - 9 moves
+      BinaryBoard board = new BinaryBoard();
+      for (int moves = random.nextInt(10); moves > 0 && !board.gameEnd();
+          moves--) {
+        int open = board.possibleMoves();
+        int move;
+        do {
+          move = random.nextInt(9);
+        } while ((open & 1 << move) == 0);
+        board = board.move(move);
+      }
+      states[i] = board.state;
+      turns[i] = board.turn;
+    }
+    stateBatches = new int[POSITIONS / batch][];
+    turnBatches = new char[POSITIONS / batch][];
+    for (int b = 0; b < stateBatches.length; b++) {
+      stateBatches[b] = Arrays.copyOfRange(states, b * batch, (b + 1) * batch);
+      turnBatches[b] = Arrays.copyOfRange(turns, b * batch, (b + 1) * batch);
+    }
+  }
+
+
+  @Benchmark
+  public int objectGameEnds() {
+    int ends = 0;
+    for (int i = 0; i < POSITIONS; i++) {
+      BinaryBoard board = new BinaryBoard(states[i], turns[i]);
+      if (board.gameEnd()) {
+        ends += board.win('x') ? 1 : board.win('o') ? 2 : 3;
+      }
+    }
+    return ends;
+  }
+
+
+  @Benchmark
+  public boolean[] batchGameEnds() {
+    for (int[] batchStates : stateBatches) {
+      BatchEvaluator.gameEnds(batchStates, batch, gameOver, winners);
+    }
+    return gameOver;
+  }
+
+
+  @Benchmark
+  public int objectEvaluate() {
+    int sum = 0;
+    for (int i = 0; i < POSITIONS; i++) {
+      BinaryBoard board = new BinaryBoard(states[i], turns[i]);
+      sum += board.gameEnd() ? -1 : board.bestMove();
+    }
+    return sum;
+  }
+
+
+  @Benchmark
+  public int[] batchEvaluate() {
+    for (int b = 0; b < stateBatches.length; b++) {
+      BatchEvaluator.evaluate(stateBatches[b], turnBatches[b], batch,
+          gameOver, winners, bestMoves);
+    }
+    return bestMoves;
+  }
+}
@@ -0,0 +1,37 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: BenchmarkRunner.java contains the main method of benchmarks.jar. It runs the JMH benchmarks in  **
+********************** this module with the JMH command line options passed in (e.g. a benchmark name regex, -f, -wi, **
+********************** -i), and always adds the GC profiler, so every result carries allocation rates (bytes per      **
+********************** operation) and GC counts next to its timings. Unless -rf / -rff say otherwise, results are     **
+********************** written as JSON to target/jmh-result.json so runs can be compared over time.                  **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) BenchmarkRunner     Entry point only.                                                                           **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import org.openjdk.jmh.profile.GCProfiler;                            // Allocation rate and GC counts per benchmark
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmd = new CommandLineOptions(args);            // Anything given on the command line wins
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd)
+        .addProfiler(GCProfiler.class);
+    if (!cmd.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!cmd.getResult().hasValue()) {
+      options.result("target/jmh-result.json");
+    }
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,61 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: BestMoveBenchmark.java contains JMH benchmarks of BinaryBoard.bestMove() from the empty board  **
+********************** (firstMove = -1) and from the position after each of the 9 possible first moves, which are the **
+********************** replies the computer actually has to find in Game. Every position is measured answered from    **
+********************** PerfectPlayTable (useTable = true) and searched by minimaxmove() (useTable = false).           **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) BestMoveBenchmark   Holds the board for the position being measured.                                           **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) bestMove()          measures BinaryBoard.bestMove().                                                            **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BestMoveBenchmark {
+
+  @Param({ "-1", "0", "1", "2", "3", "4", "5", "6", "7", "8" })       // Human's first move (-1 for the empty board)
+  public int firstMove;
+
+  @Param({ "true", "false" })                                         // Table lookup or full search
+  public boolean useTable;
+
+  BinaryBoard board;
+
+
+  @Setup
+  public void setUp() {
+    board = new BinaryBoard();
+    if (firstMove >= 0) {
+      board = board.move(firstMove);
+    }
+  }
+
+
+  @Benchmark
+  public int bestMove() {
+    return board.bestMove(useTable);
+  }
+}
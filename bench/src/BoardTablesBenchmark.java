@@ -0,0 +1,168 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: BoardTablesBenchmark.java contains JMH benchmarks of the table-driven primitives in            **
+********************** BoardTables.java against the loops BinaryBoard used before them (copied here as *Scan and      **
+********************** *Pow). Each operation runs over the same 1,024 random states (fixed seed, no position taken    **
+********************** twice), so the scores are per 1,024 calls.                                                     **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) BoardTablesBenchmark Holds the states.                                                                          **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) winScan()           measures x and o wins found by scanning the 8 winning permutations of each.                 **
+** 2) winTable()          measures x and o wins looked up in BoardTables.                                             **
+** 3) gameEndScan()       measures the old gameEnd(): two scans and a bit count.                                      **
+** 4) gameEndTable()      measures BinaryBoard.gameEnd().                                                             **
+** 5) possibleMovesPow()  measures the old possibleMoves(): nine Math.pow() tests.                                    **
+** 6) possibleMovesMask() measures BoardTables.free().                                                                **
+** 7) indexShift()        measures the old table index, state << 1.                                                   **
+** 8) indexBase3()        measures BoardTables.index().                                                               **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardTablesBenchmark {
+
+  static final int[] XWINS = { 7, 56, 73, 84, 146, 273, 292, 448 };
+  static final int[] OWINS = { 3584, 28672, 37376, 43008, 74752,
+      139776, 149504, 229376 };
+
+  int[] states = new int[1024];
+
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    for (int i = 0; i < states.length; i++) {
+      int state = 0;
+      for (int p = 0; p < 9; p++) {                                   // Each position open, x or o
+        state |= random.nextInt(3) == 1 ? 1 << p
+            : random.nextInt(2) == 1 ? 1 << p + 9 : 0;
+      }
+      states[i] = state;
+    }
+  }
+
+
+  static boolean scan(int state, int[] wins) {                        // Original BinaryBoard.win()
+    for (int i = 0; i < wins.length; i++) {
+      if ((wins[i] | state) == state) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+
+  @Benchmark
+  public int winScan() {
+    int wins = 0;
+    for (int state : states) {
+      wins += (scan(state, XWINS) ? 1 : 0) + (scan(state, OWINS) ? 2 : 0);
+    }
+    return wins;
+  }
+
+
+  @Benchmark
+  public int winTable() {
+    int wins = 0;
+    for (int state : states) {
+      wins += (BoardTables.win(state) ? 1 : 0)
+          + (BoardTables.win(state >>> 9) ? 2 : 0);
+    }
+    return wins;
+  }
+
+
+  @Benchmark
+  public int gameEndScan() {
+    int ends = 0;
+    for (int state : states) {
+      if (scan(state, XWINS) || scan(state, OWINS)
+          || Integer.bitCount(state) == 9) {
+        ends++;
+      }
+    }
+    return ends;
+  }
+
+
+  @Benchmark
+  public int gameEndTable() {
+    int ends = 0;
+    for (int state : states) {
+      if (new BinaryBoard(state, 'x').gameEnd()) {
+        ends++;
+      }
+    }
+    return ends;
+  }
+
+
+  @Benchmark
+  public int possibleMovesPow() {                                     // Original BinaryBoard.possibleMoves()
+    int sum = 0;
+    for (int state : states) {
+      int moves = 511;
+      for (int i = 0; i < 9; i++) {
+        if (((int) (Math.pow(2, i)) | state) == state
+            || (512 * (int) (Math.pow(2, i)) | state) == state) {
+          moves -= (int) (Math.pow(2, i));
+        }
+      }
+      sum += moves;
+    }
+    return sum;
+  }
+
+
+  @Benchmark
+  public int possibleMovesMask() {
+    int sum = 0;
+    for (int state : states) {
+      sum += BoardTables.free(state);
+    }
+    return sum;
+  }
+
+
+  @Benchmark
+  public int indexShift() {
+    int sum = 0;
+    for (int state : states) {
+      sum += state << 1;
+    }
+    return sum;
+  }
+
+
+  @Benchmark
+  public int indexBase3() {
+    int sum = 0;
+    for (int state : states) {
+      sum += BoardTables.index(state) << 1;
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,87 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: GameBenchmark.java contains a JMH throughput benchmark that replays whole games the way Game   **
+********************** plays them: the human (x) moves, and while the game is not over the computer (o) answers with  **
+********************** bestMove(). The human's moves come from 1,024 games picked at random (with a fixed seed, so     **
+********************** every run replays the same games), so the score is games per second over a realistic mix of   **
+********************** positions rather than one opening.                                                             **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) GameBenchmark       Holds the recorded human moves and which game to replay next.                               **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) game()              plays one whole game and returns its final state.                                           **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+  static final int GAMES = 1024;                                      // Power of 2 so the index wraps with a mask
+
+  @Param({ "true", "false" })                                         // Table lookup or full search
+  public boolean useTable;
+
+  final int[][] picks = new int[GAMES][5];                            // x makes at most 5 moves per game
+  int next;                                                           // Game to replay next
+
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    for (int g = 0; g < GAMES; g++) {
+      for (int m = 0; m < 5; m++) {
+        picks[g][m] = random.nextInt(9 - 2 * m);                      // Pick among the positions still open
+      }
+    }
+    BinaryBoard.useTable = useTable;
+  }
+
+
+  @TearDown
+  public void tearDown() {
+    BinaryBoard.useTable = true;                                      // Back to the default for the next benchmark
+  }
+
+
+  @Benchmark
+  public int game() {
+    int[] moves = picks[next++ & (GAMES - 1)];
+    BinaryBoard board = new BinaryBoard();
+    int m = 0;
+    while (!board.gameEnd()) {
+      if (board.turn == 'x') {                                        // Human takes the n-th open position
+        int open = board.possibleMoves();
+        for (int n = moves[m++]; n > 0; n--) {
+          open &= open - 1;                                           // Clears the lowest open position
+        }
+        board = board.move(Integer.numberOfTrailingZeros(open));
+      } else {
+        board = board.move(board.bestMove());
+      }
+    }
+    return board.state;
+  }
+}
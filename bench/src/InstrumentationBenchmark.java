@@ -0,0 +1,84 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: InstrumentationBenchmark.java contains JMH benchmarks of what SearchMetrics costs. search()    **
+********************** calls Search.minimax() directly, which nothing is ever added to, and bestMove() goes through   **
+********************** BinaryBoard.bestMove() with SearchMetrics disabled (enabled = false, which should score the    **
+********************** same as search()) and enabled (enabled = true, the cost of timing and recording every call).   **
+********************** Both are measured on a full search (useTable = false) and on a table lookup (useTable = true), **
+********************** where the fixed cost of recording is largest relative to the work.                             **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) InstrumentationBenchmark Holds the board after x takes the center.                                              **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) search()            measures Search.minimax() without BinaryBoard.bestMove() around it.                         **
+** 2) bestMove()          measures BinaryBoard.bestMove().                                                            **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InstrumentationBenchmark {
+
+  @Param({ "false", "true" })                                         // SearchMetrics off or on
+  public boolean enabled;
+
+  @Param({ "false", "true" })                                         // Full search or table lookup
+  public boolean useTable;
+
+  BinaryBoard board;
+
+
+  @Setup
+  public void setUp() {
+    board = new BinaryBoard().move(4);
+    if (enabled) {
+      SearchMetrics.enable();
+    } else {
+      SearchMetrics.disable();
+    }
+  }
+
+
+  @TearDown
+  public void tearDown() {
+    System.out.println(SearchMetrics.get().report());                 // What was recorded, if anything
+    SearchMetrics.disable();
+    SearchMetrics.get().reset();
+  }
+
+
+  @Benchmark
+  public int search() {
+    if (useTable) {
+      return PerfectPlayTable.get().bestMove(board.state, board.turn);
+    }
+    return Search.move(new Search().minimax(board.state, board.turn));
+  }
+
+
+  @Benchmark
+  public int bestMove() {
+    return board.bestMove(useTable);
+  }
+}
@@ -0,0 +1,80 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: ParallelSearchBenchmark.java contains JMH benchmarks of MnkSearch.bestMove() on 1, 2, 4 and 8  **
+********************** threads, searching the same gomoku (15,15,5) and 5,5,4 middle games to a fixed depth with the  **
+********************** tables emptied before every call, so the speedup over threads = 1 is the parallel search's     **
+********************** alone. Each score is one whole search; the runs on 2 or more threads only speed up as far as   **
+********************** the machine has cores to give them.                                                            **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) ParallelSearchBenchmark Holds the boards and a search per thread count.                                         **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) gomoku()            measures a depth 5 search of a 15,15,5 position with 6 stones played.                       **
+** 2) fiveByFive()        measures a depth 8 search of a 5,5,4 position with 4 stones played.                         **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelSearchBenchmark {
+
+  @Param({ "1", "2", "4", "8" })                                      // Threads searching
+  public int threads;
+
+  MnkSearch search;
+  MnkBoard gomoku;
+  MnkBoard fiveByFive;
+
+
+  @Setup
+  public void setUp() {
+    search = new MnkSearch(20, threads);
+    gomoku = new MnkBoard(15, 15, 5);
+    for (int cell : new int[] { 112, 113, 97, 127, 98, 128 }) {       // Two diagonal pairs against each other
+      gomoku.play(cell);
+    }
+    fiveByFive = new MnkBoard(5, 5, 4);
+    for (int cell : new int[] { 12, 6, 8, 16 }) {
+      fiveByFive.play(cell);
+    }
+  }
+
+
+  @Setup(Level.Invocation)
+  public void clear() {                                               // Every call searches from empty tables
+    search.clear();
+  }
+
+
+  @Benchmark
+  public int gomoku() {
+    return search.bestMove(gomoku, 5, 0);
+  }
+
+
+  @Benchmark
+  public int fiveByFive() {
+    return search.bestMove(fiveByFive, 8, 0);
+  }
+}
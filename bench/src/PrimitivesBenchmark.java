@@ -0,0 +1,99 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: PrimitivesBenchmark.java contains JMH benchmarks of each BinaryBoard method on a handful of    **
+********************** representative states, from the empty board to a finished game:                               **
+**********************                                                                                                **
+**********************        empty          opening        midgame        endgame        x won                       **
+**********************      _ | _ | _      o | _ | _      x | _ | o      x | o | o      x | x | x                     **
+**********************      _ | _ | _      _ | x | _      _ | x | _      o | x | x      o | o | _                     **
+**********************      _ | _ | _      _ | _ | _      _ | _ | o      _ | x | o      _ | _ | _                     **
+**********************          0             528          133,137        138,417         12,295                      **
+**********************                                                                                                **
+********************** The player to move follows from the number of xs and os (x moves first).                      **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) PrimitivesBenchmark Holds the board for the state being measured.                                               **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) move()              measures BinaryBoard.move() on the first open position.                                     **
+** 2) possibleMoves()     measures BinaryBoard.possibleMoves().                                                       **
+** 3) winX(), winO()      measure BinaryBoard.win() for each player.                                                  **
+** 4) gameEnd()           measures BinaryBoard.gameEnd().                                                             **
+** 5) minimaxmove()       measures a full BinaryBoard.minimaxmove() search.                                           **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitivesBenchmark {
+
+  @Param({ "0", "528", "133137", "138417", "12295" })                 // States pictured above
+  public int state;
+
+  BinaryBoard board;
+  int open;                                                           // First open position (-1 if board is full)
+
+
+  @Setup
+  public void setUp() {
+    boolean xTurn = Integer.bitCount(state & 511)                     // Equal counts means x moves next
+        == Integer.bitCount(state >>> 9);
+    board = new BinaryBoard(state, xTurn ? 'x' : 'o');
+    open = Integer.numberOfTrailingZeros(board.possibleMoves());
+  }
+
+
+  @Benchmark
+  public BinaryBoard move() {
+    return board.move(open);
+  }
+
+
+  @Benchmark
+  public int possibleMoves() {
+    return board.possibleMoves();
+  }
+
+
+  @Benchmark
+  public boolean winX() {
+    return board.win('x');
+  }
+
+
+  @Benchmark
+  public boolean winO() {
+    return board.win('o');
+  }
+
+
+  @Benchmark
+  public boolean gameEnd() {
+    return board.gameEnd();
+  }
+
+
+  @Benchmark
+  public int[] minimaxmove() {
+    return board.minimaxmove();
+  }
+}
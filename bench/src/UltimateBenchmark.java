@@ -0,0 +1,64 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: UltimateBenchmark.java contains JMH benchmarks of ultimate tic tac toe move generation (perft  **
+********************** from the empty board: every legal move made and taken back, depth moves deep, with the last    **
+********************** ply's moves only counted) and of an UltimateSearch from the empty board to the same depth,     **
+********************** which adds the evaluation and pruning to the same move generation. perft(6) is 4,020,960.      **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) UltimateBenchmark   Holds the board and the search.                                                             **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) perft()             measures UltimateBoard.perft() to the given depth.                                          **
+** 2) search()            measures UltimateSearch.bestMove() to the given depth.                                      **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UltimateBenchmark {
+
+  @Param({ "4", "5", "6" })                                           // Moves deep
+  public int depth;
+
+  UltimateBoard board;
+  UltimateSearch search;
+
+
+  @Setup
+  public void setUp() {
+    board = new UltimateBoard();
+    search = new UltimateSearch();
+  }
+
+
+  @Benchmark
+  public long perft() {
+    return board.perft(depth);
+  }
+
+
+  @Benchmark
+  public int search() {
+    return search.bestMove(board, depth, 0);
+  }
+}
@@ -0,0 +1,135 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: LoadGenerator.java is a standalone load generator for MoveServer, run straight from source:    **
+**********************                                                                                                **
+**********************      java scripts/LoadGenerator.java [url] [clients] [seconds]                                 **
+**********************                                                                                                **
+********************** (defaults http://localhost:8080, 64 clients, 10 seconds; scripts/loadtest.sh also starts and   **
+********************** stops the server). Each client is a virtual thread sending GET /move requests back to back    **
+********************** for positions taken from 4,096 random games (fixed seed, so every run asks the same mix). The  **
+********************** first 2 seconds warm the server up and are not counted. At the end it prints the requests per  **
+********************** second, errors and the p50 / p99 / max latency of the requests counted.                        **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) LoadGenerator       Entry point, plus a growable list of latencies per client.                                  **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoadGenerator {
+
+  static final int WARMUP_SECONDS = 2;                                // Not counted in the results
+  static final int[] WINS = { 7, 56, 73, 84, 146, 273, 292, 448 };    // Winning permutations (either player's 9 bits)
+
+
+  public static void main(String[] args) throws Exception {
+    String url = args.length > 0 ? args[0] : "http://localhost:8080";
+    int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+    int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+    HttpClient http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1).build();
+    URI[] uris = positions(url, 4096);
+    long start = System.nanoTime();
+    long counted = start + WARMUP_SECONDS * 1_000_000_000L;          // Requests sent after this are counted
+    long stop = counted + seconds * 1_000_000_000L;
+    long[][] latencies = new long[clients][];
+    int[] counts = new int[clients];
+    AtomicLong errors = new AtomicLong();
+    Thread[] threads = new Thread[clients];
+    for (int c = 0; c < clients; c++) {
+      final int client = c;
+      threads[c] = Thread.ofVirtual().start(() -> {
+        long[] mine = new long[1024];
+        int n = 0;
+        int next = client * 61;                                       // Clients start at different positions
+        for (long now = System.nanoTime(); now < stop; ) {
+          HttpRequest request = HttpRequest.newBuilder(
+              uris[next++ & (uris.length - 1)]).GET().build();
+          boolean ok;
+          try {
+            ok = http.send(request, HttpResponse.BodyHandlers.ofString())
+                .statusCode() == 200;
+          } catch (Exception e) {
+            ok = false;
+          }
+          long done = System.nanoTime();
+          if (now >= counted) {
+            if (!ok) {
+              errors.incrementAndGet();
+            } else {
+              if (n == mine.length) {
+                mine = Arrays.copyOf(mine, 2 * n);
+              }
+              mine[n++] = done - now;
+            }
+          }
+          now = done;
+        }
+        latencies[client] = mine;
+        counts[client] = n;
+      });
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    int total = 0;
+    for (int count : counts) {
+      total += count;
+    }
+    long[] all = new long[total];
+    for (int c = 0, at = 0; c < clients; at += counts[c], c++) {
+      System.arraycopy(latencies[c], 0, all, at, counts[c]);
+    }
+    Arrays.sort(all);
+    System.out.printf("%d clients, %d s: %d requests, %.0f req/s, "
+        + "%d errors%n", clients, seconds, total, total / (double) seconds,
+        errors.get());
+    if (total > 0) {
+      System.out.printf("latency  p50 %.3f ms  p99 %.3f ms  max %.3f ms%n",
+          all[total / 2] / 1e6, all[(int) (total * 0.99)] / 1e6,
+          all[total - 1] / 1e6);
+    }
+  }
+
+
+  /* Plays count random games from an empty board (x first) and keeps
+  ** one position of each, before the game is over, as a request URI. */
+  static URI[] positions(String url, int count) {
+    Random random = new Random(42);
+    URI[] uris = new URI[count];
+    for (int g = 0; g < count; g++) {
+      int state = 0;
+      boolean xTurn = true;
+      int moves = random.nextInt(9);                                  // Position after 0 to 8 moves
+      for (int m = 0; m < moves && !won(state); m++) {
+        int open = ~(state | state >>> 9) & 511;
+        for (int n = random.nextInt(Integer.bitCount(open)); n > 0; n--) {
+          open &= open - 1;                                           // Clears the lowest open position
+        }
+        int square = Integer.lowestOneBit(open);
+        state += xTurn ? square : square << 9;
+        xTurn = !xTurn;
+      }
+      uris[g] = URI.create(url + "/move?state=" + state + "&turn="
+          + (xTurn ? 'x' : 'o'));
+    }
+    return uris;
+  }
+
+
+  static boolean won(int state) {                                     // Whether x or o holds a winning permutation
+    for (int win : WINS) {
+      if ((state & win) == win || (state >>> 9 & win) == win) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
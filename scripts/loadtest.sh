@@ -0,0 +1,12 @@
+#!/bin/sh
+# Starts MoveServer from target/classes, drives it with LoadGenerator.java and stops it again.
+# Usage: scripts/loadtest.sh [clients] [seconds]     (PORT defaults to 8080)
+set -e
+cd "$(dirname "$0")/.."
+PORT=${PORT:-8080}
+[ -d target/classes ] || mvn -q compile
+PORT=$PORT java -cp target/classes ttt/MoveServer &
+SERVER=$!
+trap 'kill $SERVER' EXIT
+sleep 2                                                               # Table is built before the server listens
+java scripts/LoadGenerator.java "http://localhost:$PORT" "${1:-64}" "${2:-10}"
@@ -0,0 +1,73 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: Agent.java contains the interface a player implements to take part in a Tournament: given a    **
+********************** BinaryBoard with the game not over, return an open position for the player to move. One agent  **
+********************** is shared by every thread of a tournament, so it has to be safe to call concurrently (keep     **
+********************** state in a ThreadLocal, as depth() does). Any engine plugs in as a lambda, for example         **
+**********************                                                                                                **
+**********************      Agent mnk = board -> new MnkSearch().bestMove(MnkBoard.of(board), 9, 10);               **
+**********************                                                                                                **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) Agent               The move a player makes in a position.                                                      **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) int move()          takes a board (game not over) and returns the position to play.                             **
+** 2) Agent depth()       takes a depth and returns an agent searching that many moves ahead with MnkSearch.          **
+** 3) Agent mcts()        takes a number of iterations and returns an agent running that many with Mcts.              **
+** 4) Agent forName()     takes random, minimax, depthN (depth1, depth2, ...) or mcts and returns that agent.         **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public interface Agent {
+
+  Agent RANDOM = board -> {                                           // Any open position, all equally likely
+    int free = board.possibleMoves();
+    for (int skip = ThreadLocalRandom.current()
+        .nextInt(Integer.bitCount(free)); skip > 0; skip--) {
+      free &= free - 1;                                               // Drops the lowest open position
+    }
+    return Integer.numberOfTrailingZeros(free);
+  };
+
+  Agent MINIMAX = board -> board.bestMove();                          // Perfect play, from PerfectPlayTable
+
+
+  int move(BinaryBoard board);
+
+
+  static Agent depth(int depth) {                                     // One MnkSearch per thread, its table kept from
+    ThreadLocal<MnkSearch> searches =                                 // move to move
+        ThreadLocal.withInitial(() -> new MnkSearch(12));
+    return board -> searches.get().bestMove(MnkBoard.of(board), depth, 0);
+  }
+
+
+  static Agent mcts(int iterations) {                                 // One Mcts per thread (its tree is reused when
+    ThreadLocal<Mcts> searches =                                      // a game goes on)
+        ThreadLocal.withInitial(() -> new Mcts(1 << 16, 1));
+    return board -> searches.get().bestMove(MnkBoard.of(board), iterations,
+        0);
+  }
+
+
+  static Agent forName(String name) {
+    if (name.equals("random")) {
+      return RANDOM;
+    }
+    if (name.equals("minimax")) {
+      return MINIMAX;
+    }
+    if (name.matches("depth[1-9]")) {
+      return depth(name.charAt(5) - '0');
+    }
+    if (name.equals("mcts")) {
+      return mcts(10000);
+    }
+    throw new IllegalArgumentException("unknown agent " + name
+        + " (random, minimax, depth1 - depth9 or mcts)");
+  }
+}
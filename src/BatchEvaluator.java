@@ -0,0 +1,101 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: BatchEvaluator.java contains a batch version of BinaryBoard's gameEnd(), win() and bestMove()  **
+********************** for scoring many positions at once (logged games, analytics jobs). It takes the states and     **
+********************** turns as arrays and fills primitive arrays with the results, so no BinaryBoard is made per     **
+********************** position and one Search is reused for every position missing from PerfectPlayTable. The win    **
+********************** and draw checks run on the Vector API (see VectorWins) when the jdk.incubator.vector module is **
+********************** present, several states per instruction, and on a scalar loop over BoardTables otherwise (and  **
+********************** for the states left over after the last whole vector). Both give exactly what gameEnd() and    **
+********************** win() give, and bestMove() the same move as BinaryBoard.bestMove(), -1 once the game is over.  **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) BatchEvaluator      Holds whether the Vector API is available and used.                                         **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) void gameEnds()     takes states, a count and output arrays and fills in whether each game is over and who won  **
+**                        ('x', 'o', or 0 for nobody).                                                                **
+** 2) void evaluate()     takes states, turns, a count and output arrays and fills in the same plus each best move.   **
+**                        Both throw IllegalArgumentException, before filling anything, for a state past 18 bits.     **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+public class BatchEvaluator {
+
+  public static final boolean VECTOR = ModuleLayer.boot()             // Whether the JVM was started with the Vector
+      .findModule("jdk.incubator.vector").isPresent();                // API (--add-modules jdk.incubator.vector)
+  public static boolean useVector = VECTOR;                           // Check wins with it (false for the scalar loop)
+
+
+  private BatchEvaluator() {
+  }
+
+
+  /* Fills gameOver[i] with new BinaryBoard(states[i], turn).gameEnd() and
+  ** winners[i] with the player whose win() is true ('x' first, 0 for
+  ** neither) for i from 0 to count - 1. */
+  public static void gameEnds(int[] states, int count, boolean[] gameOver,
+      char[] winners) {
+    check(states, count);
+    int i = useVector && VECTOR                                       // Whole vectors first, the rest one by one
+        ? VectorWins.gameEnds(states, count, gameOver, winners) : 0;
+    for (; i < count; i++) {
+      gameEnd(states, i, gameOver, winners);
+    }
+  }
+
+
+  private static void check(int[] states, int count) {                // Every state fits BinaryBoard.state, as
+    for (int i = 0; i < count; i++) {                                 // PerfectPlayTable.contains() checks too
+      if (states[i] >>> 18 != 0) {
+        throw new IllegalArgumentException("state " + states[i] + " at "
+            + i + " is out of range");
+      }
+    }
+  }
+
+
+  private static void gameEnd(int[] states, int i, boolean[] gameOver,
+      char[] winners) {                                               // Scalar check of states[i]
+    int state = states[i];
+    char winner = BoardTables.win(state) ? 'x'
+        : BoardTables.win(state >>> 9) ? 'o' : 0;
+    winners[i] = winner;
+    gameOver[i] = winner != 0 || Integer.bitCount(state) == 9;
+  }
+
+
+  /* Fills the same as gameEnds() and bestMoves[i] with the move
+  ** new BinaryBoard(states[i], turns[i]).bestMove() returns, or -1 if the
+  ** game is over. */
+  public static void evaluate(int[] states, char[] turns, int count,
+      boolean[] gameOver, char[] winners, int[] bestMoves) {
+    check(states, count);
+    int done = useVector && VECTOR                                    // Whole vectors first, the rest checked in the
+        ? VectorWins.gameEnds(states, count, gameOver, winners) : 0;  // same pass as the moves
+    byte[] moves = BinaryBoard.useTable ? PerfectPlayTable.get().moves
+        : null;
+    Search search = null;                                             // Made the first time a position needs one
+    for (int i = 0; i < count; i++) {
+      int state = states[i];
+      char turn = turns[i];
+      int move = -1;
+      if (i >= done) {
+        gameEnd(states, i, gameOver, winners);
+      }
+      if (!gameOver[i]) {
+        if (moves != null && (state & state >>> 9) == 0) {            // One table read, as in contains() then
+          move = moves[PerfectPlayTable.index(state, turn)];          // bestMove()
+        }
+        if (move < 0) {                                               // Not in the table (UNSET), searched
+          if (search == null) {
+            search = new Search();
+          }
+          move = Search.move(search.minimax(state, turn));
+        }
+      }
+      bestMoves[i] = move;
+    }
+  }
+}
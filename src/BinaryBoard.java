@@ -1,6 +1,6 @@
 /***********************************************************************************************************************
 ************************************************************************************************************************
-******** LAST UPDATED: March 4, 2015                                                                                  **
+******** LAST UPDATED: October 18, 2026                                                                               **
 ********   WRITTEN BY: Bretton Auerbach                                                                               **
 ********  DESCRIPTION: BinaryBoard.java contains the game logic for a TicTacToe game using 18 bits to represent the   **
 ********************** game states. Specifically, the board state is stored as an int. Each position on the board is  **
@@ -38,7 +38,10 @@
 **                        player has won.                                                                             **
 ** 6) int[] minimaxmove() takes no parameters and returns an array representing the heuristic score of the best move  **
 **                        as well as the index of the best available move.                                            **
-** 7) int bestMove()      takes no parameters and returns an int representing the index of the best available move.   **
+** 7) int bestMove()      takes whether to use PerfectPlayTable (default useTable) and returns an int representing    **
+**                        the index of the best available move. Positions stored in the table are then answered by    **
+**                        lookup instead of by a call to minimaxmove(). While SearchMetrics is enabled every call is  **
+**                        also recorded.                                                                              **
 ** 8) boolean gameEnd()   takes no parameters and returns a boolean representing whether the game is over or not.     **
 ************************************************************************************************************************
 ***********************************************************************************************************************/
@@ -49,10 +52,11 @@ public class BinaryBoard {
 
   public int state;                                                   // Board state represented by unique integer value
   public char turn;                                                   // Active player represented by char 'x' or 'o'
+  public static volatile boolean useTable = true;                     // Default for bestMove(): answer from
+                                                                      // PerfectPlayTable (read by every thread)
   final int AI_SHIFT = 512;                                           // AI moves are binary digits 10-18 (shift 2^9)
-  final int[] XWINS = { 7, 56, 73, 84, 146, 273, 292, 448 };          // Values of winning permutations for 'x'
-  final int[] OWINS = { 3584, 28672, 37376, 43008, 74752, 139776,     // Values of winning permutations for 'o'
-      149504, 229376 };
+  static final int[] XWINS = { 7, 56, 73, 84, 146, 273, 292, 448 };   // Values of winning permutations for 'x' (o's
+                                                                      // are the same shifted by 9, see BoardTables)
 
 
   public BinaryBoard() {                                              // Default constructor
@@ -73,102 +77,85 @@ public class BinaryBoard {
   public BinaryBoard move(int e) {                                    // Makes move by adding move as power of 2
     int newState = state;                                             // don't not mutate state (move called by minimax)
     if (turn == 'x') {                                                // If human player is taking a turn
-      newState = state + (int) (Math.pow(2, e));                      // moves are stored in binary digits 0 - 8
+      newState = state + (1 << e);                                    // moves are stored in binary digits 0 - 8
     } else {                                                          // otherwise computer player is taking a turn
-      newState = state + AI_SHIFT * (int) (Math.pow(2, e));           // moves are stored in binary digits 9 - 17
+      newState = state + (AI_SHIFT << e);                             // moves are stored in binary digits 9 - 17
     }
     return new BinaryBoard(newState, turn == 'x' ? 'o' : 'x');        // New board is returned with move added
   }                                                                   // and player toggled
 
 
   public int possibleMoves() {                                        // Calculates value of open positions
-    int moves = 511;                                                  // Sum of powers of 2 0 -> 8 = (2^(n+1)-1)
-    for (int i = 0; i < 9; i++) {                                     // Iterate over all positions on the board
-      if (((int) (Math.pow(2, i)) | state) == state                   // If BINARY OR of either move or moved shifted
-          || (AI_SHIFT * (int) (Math.pow(2, i)) | state) == state) {  // with state == state, then move is in state
-        moves -= (int) (Math.pow(2, i));                              // Subtract that move from possible moves
-      }
-    }
-    return moves;                                                     // Return value representing remaining moves
-  }
+    return BoardTables.free(state);                                   // BINARY OR of x's positions and o's positions
+  }                                                                   // shifted down, flipped and kept to 9 digits
 
 
   public boolean win(char turn) {                                     // Tests board for win values
-    if (turn == 'x') {                                                // If it's x's turn
-      for (int i = 0; i < XWINS.length; i++) {
-        if ((XWINS[i] | state) == state) {                            // Check if x win values are on the board with
-          return true;                                                // binary or and return true if value found
-        }
-      }
-    } else {                                                          // If it's o's turn
-      for (int i = 0; i < OWINS.length; i++) {
-        if ((OWINS[i] | state) == state) {                            // Check if o win values are on the board with
-          return true;                                                // binary or and return true if value found
-        }
-      }
+    if (turn == 'x') {                                                // If it's x's turn, look x's 9 bits up in the
+      return BoardTables.win(state);                                  // table of masks holding a winning permutation
     }
-    return false;                                                     // If no wins found, no one has won, return false
+    return BoardTables.win(state >>> 9);                              // otherwise look up o's 9 bits
   }
 
 /*
- * Using recursion, minimax returns the best available move and the
- * corresponding heuristic score in an array called minOrmax (since
- * depending on the last player to evaluate it can be either the
- * lowest or highest score). The first element of minOrMax
- * represents the heuristic score of a move and second element
- * represents the index of a move, the third element is an alpha value
- * the fourth element is a beta value. In summary:
+ * minimax returns the best available move and the corresponding
+ * heuristic score in an array called minOrmax (since depending on the
+ * last player to evaluate it can be either the lowest or highest
+ * score). The first element of minOrMax represents the heuristic score
+ * of a move and second element represents the index of a move, the
+ * third element is an alpha value the fourth element is a beta value.
+ * In summary:
  *            [heuristicNodeValue, moveIndex, α, β]
- * When first initialized, minOrMax has flags that are out of bounds
- * to indicate values not yet set. Score has a flag value of 1,000,
- * and index has a flag value of -1. α and β are set at the worst
- * possible values -100 for α and 100 for β.
- * minimaxmove() resets scores only when a new best case has been
- * reached either min or max depending. α and β are updated likewise,
- * recursion is stopped when αβ pruning is possible, i.e. once the
- * algorithm has reached a point where α >= β (meaning some previously
- * evaluated branch will definitely be chosen).
+ * The search itself is done by Search.minimax(), which adds and takes
+ * back moves on a single int instead of creating a board per position.
+ * α and β start at the worst possible values and are passed down to
+ * every position searched, branches are cut once α >= β (meaning some
+ * previously evaluated branch will definitely be chosen). Only the top
+ * position's array is built, from its score: x raises α to its best
+ * child value, o lowers β, and a finished game has no move (flag -1).
  */
 
   public int[] minimaxmove() {
-    if (win('x')) {                                                   // x is maximizing, if x wins return 100 as max
-      return new int[] { 100, -1, 100, 100 };                         // heuristic value, flag move as unset
-    }
-    if (win('o')) {                                                   // o is minimizing, if o wins return -100 as min
-      return new int[] { -100, -1 , -100, -100};                      // heuristic value, flag move as unset
-    }
-    if (Integer.bitCount(state) == 9) {                               // If state has 9 bits containing 1s, game is draw
-      return new int[] { 0, -1, 0, 0 };                               // return neutral heur' value, flag move as unset
+    int packed = new Search().minimax(state, turn);                   // One Search per call, none per position
+    return minOrMax(Search.score(packed), Search.move(packed), turn);
+  }
+
+
+  static int[] minOrMax(int score, int move, char turn) {             // Builds [score, move, α, β] for a position
+    if (move == -1) {                                                 // Game over, every slot holds the end score
+      return new int[] { score, -1, score, score };
     }
-    int[] minOrMax = { 1000, -1 , -100, 100};                         // Initialize array to hold score/move, α, β
-    for (int i = 0; i < 9; i++) {                                     // Iterate over every board position
-      if ((possibleMoves() | (int) (Math.pow(2, i)))                  // If position at i is empty known because that
-          == possibleMoves()) {                                       // power of 2 hasn't been removed by possiblemoves
-        int[] value = move(i).minimaxmove();                          // Make move at i and call minimaxmove recursively
-        if (minOrMax[0] == 1000 || turn == 'x'                        // If value hasn't been set, or if x is evaluating
-            && minOrMax[0] < value[0] || turn == 'o'                  // and returned value > existing value, or if o is
-            && minOrMax[0] > value[0]) {                              // evaluating and value < existing value
-          minOrMax[0] = value[0];                                     // set node value to preferable value
-          minOrMax[1] = i;                                            // set move index to corresponding i
-        }
-        if (turn == 'x' && minOrMax[2] < value[0]){                   // If x is evaluating and value > α
-          minOrMax[2] = value[0];                                     // update α
-        }
-        else if (turn == 'o' && minOrMax[3] > value[0]) {             // If o is evaluating and value < β
-          minOrMax[3] = value[0];                                     // update β
-        }
-      }
-      if (minOrMax[2] >= minOrMax[3]){                                // If α >= β found
-        break;                                                        // cease exploring that branch
-      }
+    if (turn == 'x') {                                                // Best child value is the score before the move
+      return new int[] { score, move,                                 // penalty was taken off
+          Math.max(-100, score + 1), 100 };
     }
-    minOrMax[0] += (turn == 'x' ? -1 : 1);                            // Since winning sooner is better than later,
-    return minOrMax;                                                  // taking more moves for the same end state is
-  }                                                                   // penalized
+    return new int[] { score, move, -100, Math.min(100, score - 1) };
+  }
+
+
+  public int bestMove() {                                             // bestMove(table) with the default, useTable
+    return bestMove(useTable);
+  }
 
 
-  public int bestMove() {                                             // Returns move index from minimaxmove's returned
-    return minimaxmove()[1];                                          // array
+  public int bestMove(boolean table) {                                // Returns move index from minimaxmove's returned
+    if (SearchMetrics.enabled) {                                      // array (timed and counted while instrumentation
+      return SearchMetrics.bestMove(this, table);                     // is enabled), unless table is set and the
+    }                                                                 // position has already been solved in the
+    return choose(table, null);                                       // precomputed table (any position reachable
+  }                                                                   // from an empty board with x first)
+
+
+  /* The one place the move is chosen, whether SearchMetrics is enabled
+  ** or not: looked up if table is set and PerfectPlayTable holds the
+  ** position, otherwise searched by search (a new Search if null, as
+  ** minimaxmove() does). A lookup leaves search untouched. */
+  int choose(boolean table, Search search) {
+    if (table && PerfectPlayTable.get().contains(state, turn)) {
+      return PerfectPlayTable.get().bestMove(state, turn);
+    }
+    return Search.move((search == null ? new Search() : search)
+        .minimax(state, turn));
   }
 
 
@@ -0,0 +1,86 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: BoardTables.java contains the precomputed tables behind BinaryBoard's primitives. Every player **
+********************** holds 9 bits of the state, so there are only 512 ways to hold positions and whether each one   **
+********************** contains a winning permutation is worked out once and kept as a 512 bit set (8 longs):        **
+**********************                                                                                                **
+**********************      win(mask)   = bit (mask & 511) of WINS     x: win(state)    o: win(state >>> 9)           **
+**********************      free(state) = ~(x | o) & 511               x = state & 511, o = state >>> 9               **
+**********************                                                                                                **
+********************** so a win test is one shift and one array read instead of a scan over the 8 permutations. The  **
+********************** same table serves both players, since x's and o's winning permutations are the same 9 bit      **
+********************** values shifted by 9. A state where no position is taken twice is also a 9 digit base-3 number **
+********************** (0 = open, 1 = x, 2 = o, position i is digit i):                                              **
+**********************                                                                                                **
+**********************      index(state) = BASE3[x] + 2 * BASE3[o]     (0 -> 19,682, BASE3[m] = sum of 3^i in m)      **
+**********************                                                                                                **
+********************** which numbers the 3^9 = 19,683 states with no gaps, so tables with an entry per position (like **
+********************** PerfectPlayTable and TranspositionTable) need 19,683 entries per turn instead of 2^18.         **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) BoardTables         Static tables and helpers only, never instantiated.                                         **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) boolean win()       takes one player's 9 bits and returns whether they hold a winning permutation.              **
+** 2) int free()          takes a state and returns the 9 bit mask of open positions.                                 **
+** 3) int index()         takes a state (no position taken twice) and returns its base-3 index.                       **
+** 4) int state()         takes a base-3 index and returns the state it numbers.                                      **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+public final class BoardTables {
+
+  public static final int STATES = 19683;                             // 3^9 states with no position taken twice
+  static final long[] WINS = new long[512 / 64];                      // Bit m set if mask m holds a permutation
+  static final int[] BASE3 = new int[512];                            // Mask m read as base 3 digits (0 or 1)
+
+  static {
+    for (int m = 0; m < 512; m++) {
+      for (int p : BinaryBoard.XWINS) {                               // x's permutations fit any player's 9 bits
+        if ((m & p) == p) {
+          WINS[m >>> 6] |= 1L << m;                                   // Shift uses the low 6 bits of m
+        }
+      }
+      for (int i = 8, power = 6561; i >= 0; i--, power /= 3) {        // 3^8 down to 3^0
+        if ((m & 1 << i) != 0) {
+          BASE3[m] += power;
+        }
+      }
+    }
+  }
+
+
+  private BoardTables() {                                             // Static tables only
+  }
+
+
+  public static boolean win(int mask) {                               // Low 9 bits of mask hold a win (higher bits
+    mask &= 511;                                                      // are ignored)
+    return (WINS[mask >>> 6] >>> mask & 1) != 0;
+  }
+
+
+  public static int free(int state) {                                 // Positions neither x nor o has taken
+    return ~(state | state >>> 9) & 511;
+  }
+
+
+  public static int index(int state) {                                // x's digits are 1, o's are 2
+    return BASE3[state & 511] + 2 * BASE3[state >>> 9 & 511];
+  }
+
+
+  public static int state(int index) {                                // Reads the base-3 digits back, lowest first
+    int state = 0;
+    for (int i = 0; i < 9; i++, index /= 3) {
+      int digit = index % 3;
+      if (digit == 1) {
+        state |= 1 << i;
+      } else if (digit == 2) {
+        state |= 1 << i + 9;
+      }
+    }
+    return state;
+  }
+}
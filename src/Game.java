@@ -1,12 +1,14 @@
 /***********************************************************************************************************************
 ************************************************************************************************************************
-******** LAST UPDATED: March 4, 2015                                                                                  **
+******** LAST UPDATED: October 18, 2026                                                                               **
 ********   WRITTEN BY: Bretton Auerbach                                                                               **
 ********  DESCRIPTION: BinaryGame.java contains the main method for the TicTacToe game. The main method handles all   **
 ********************** of the rendering concerns for the game. The game generates a new window and populates it with  **
 ********************** a 3x3 grid of buttons. Using a mouse listener, upon click the human player's move is recorded  **
 ********************** and the computer player makes a move (if the game is not over). Upon game completion, the      **
-********************** final outcome is displayed in an alert message.                                                **
+********************** final outcome is displayed in an alert message. The computer never searches on the event       **
+********************** dispatch thread: while the human is deciding, Ponder works out its answer to every possible    **
+********************** move on background threads, and a click applies the answer once it is ready (usually at once). **
 ** SUMMARY OF CLASSES:                                                                                                **
 ** 1) Game                A single class represents the game, which handles generating the visual board,              **
                           appropriate alternation of moves and monitoring/messaging the gamestate.                    **
@@ -36,6 +38,8 @@ import java.awt.GridLayout;                                           // Grid fo
 import java.awt.event.MouseEvent;                                     // Mouse event actions for window object
 import java.awt.event.MouseListener;                                  // Mouse listener for window object
 import java.io.Console;
+import java.util.concurrent.CompletableFuture;                        // Computer's answer, found in the background
+import java.util.concurrent.ExecutorService;                          // Threads the computer thinks on
 
 import javax.swing.JButton;                                           // GUI for buttons
 import javax.swing.JFrame;                                            // Frame inside window
@@ -43,9 +47,13 @@ import javax.swing.JOptionPane;                                       // Message
 import javax.swing.SwingUtilities;                                    // Encapsulates game in runnable
                                                                       // (executed once window exists)
 public class Game {
+  static final ExecutorService PONDER_THREADS = Ponder.executor();    // Shared by every game played
   BinaryBoard board = new BinaryBoard();                              // Instantiate new board object
+  final Ponder ponder = new Ponder(PONDER_THREADS);                   // Answers to the human's moves, found off the
+                                                                      // event dispatch thread
 
   public static void main(String[] args) {                            // Main method
+    System.out.println(PerfectPlayTable.get().report());              // Solve every position before the first click
     SwingUtilities.invokeLater(new Runnable() {                       // Passes runnable to execution after frame setup
 
       @Override
@@ -70,39 +78,32 @@ public class Game {
             public void mouseEntered(MouseEvent e) {}
             @Override
             public void mouseClicked(MouseEvent e) {                  // Upon click
+              if (game.board.turn != 'x' || game.board.gameEnd()) {   // Computer still answering or game over:
+                return;                                               // ignore the click
+              }
               boolean validMove = button.getText() == "";             // Is button is blank?
               if (!validMove) {                                       // NO
                 JOptionPane.showMessageDialog(null,                   // Prompt for valid move
                     "This position is taken. Try another.");
               } else {                                                // YES
                 button.setText(Character.toString(game.board.turn));  // Place correct player's mark
+                CompletableFuture<Integer> reply =                    // Pondered answer to this move
+                    game.ponder.reply(game.board, idx);
                 game.move(idx);                                       // Add move to state
-                if (!game.board.gameEnd()) {                          // If game's not over, computer's turn
-                  int best = game.board.bestMove();                   // Get move from minimaxmove
-                  buttons[best].setText(Character                     // Add move to visual display
-                      .toString(game.board.turn));
-                  game.move(best);                                    // Add this move to game board
-                }
                 if (game.board.gameEnd()) {                           // If game's over
-                  String message = "";                                // Initialize string
-                  if (game.board.win('x')) {                          // If human won
-                    message = "You will never see " + "this message.";// Create message (this should not happen)
-                  } else if (game.board.win('o')) {                   // If computer won
-                    message = "Why would you let me win. "            // Create computer won message
-                        + "Not sure if I'm smart?";
-                  } else {                                            // If it's tie
-                    message = "It's a draw. What a surprise!";        // Create tie message
-                  }
-                  message += "\n\nWant to play again? (No will quit)";
-                  int n = JOptionPane.showConfirmDialog(frame,        // Display message in pop-up dialog box
-                      message, "GAME OVER",                           // Box title is GAME OVER
-                      JOptionPane.YES_NO_OPTION);                     // Option to replay or quit
-                  System.out.println("" + n);
-                  if (n == 0) {                                       // If yes, reset the game
-                    run();
-                  } else if (validMove) {                             // If no, quit the game
-                    System.exit(0);
-                  }
+                  gameOver(frame, game);
+                } else {                                              // Otherwise computer's turn, once the answer is
+                  reply.thenAccept(best -> SwingUtilities.invokeLater( // ready (never for a cancelled game)
+                      () -> {
+                        buttons[best].setText(Character               // Add move to visual display
+                            .toString(game.board.turn));
+                        game.move(best);                              // Add this move to game board
+                        if (game.board.gameEnd()) {
+                          gameOver(frame, game);
+                        } else {
+                          game.ponder.start(game.board);              // Think while the human does
+                        }
+                      }));
                 }
               }
             }
@@ -111,6 +112,31 @@ public class Game {
         }                                                             // logic as mouse event attached to each button)
         frame.pack();                                                 // Puts everything into window
         frame.setVisible(true);                                       // Display window upon successful pack
+        game.ponder.start(game.board);                                // Think while the human picks a first move
+      }
+
+
+      void gameOver(JFrame frame, Game game) {                        // Upon game completion
+        String message = "";                                          // Initialize string
+        if (game.board.win('x')) {                                    // If human won
+          message = "You will never see " + "this message.";          // Create message (this should not happen)
+        } else if (game.board.win('o')) {                             // If computer won
+          message = "Why would you let me win. "                      // Create computer won message
+              + "Not sure if I'm smart?";
+        } else {                                                      // If it's tie
+          message = "It's a draw. What a surprise!";                  // Create tie message
+        }
+        message += "\n\nWant to play again? (No will quit)";
+        int n = JOptionPane.showConfirmDialog(frame,                  // Display message in pop-up dialog box
+            message, "GAME OVER",                                     // Box title is GAME OVER
+            JOptionPane.YES_NO_OPTION);                               // Option to replay or quit
+        System.out.println("" + n);
+        if (n == 0) {                                                 // If yes, cancel anything still being pondered
+          game.ponder.cancel();                                       // and reset the game
+          run();
+        } else {                                                      // If no, quit the game
+          System.exit(0);
+        }
       }
     });
   }
@@ -0,0 +1,462 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: GameLog.java contains an append-only binary log of played games (every game starting from the  **
+********************** empty board with x first, as Game and SessionManager play them). A whole game is one RECORD    **
+********************** byte record, the moves in order as 4-bit indexes and the result:                              **
+**********************                                                                                                **
+**********************      bits 47-42 | bits 41-40               | bits 39-36 | bits 35-0                            **
+**********************      unused     | ' ', x, o or - (0 - 3)   | moves made | move i in bits 4i to 4i + 3          **
+**********************                                                                                                **
+********************** so replaying the moves with BinaryBoard.move() gives back every position of the game. append() **
+********************** only copies the record into the current batch (under a lock held for that long), and full     **
+********************** batches are handed over a bounded queue to one writer thread, which writes BATCH records at a  **
+********************** time, so the request path never waits on the disk unless the disk falls QUEUED batches behind. **
+********************** A batch left part full is handed over after FLUSH_MILLIS without an append, or by flush().     **
+********************** The log is a directory of segments of a fixed number of records, each a file named after the   **
+********************** number of its first record (games-0000000000000000.log) with a HEADER byte header (magic       **
+********************** number, record size, first record), and a new segment is started when one is full. A whole     **
+********************** record is never rewritten: reopening a directory continues its last segment after the last     **
+********************** whole record, cutting off a record or header left torn by a crash (or starts a new segment if  **
+********************** the last one is full). GameLogReader maps the segments back for replay.                        **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) GameLog             Holds the current batch, the queue of full ones and the writer thread's segment.            **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) GameLog()           takes a directory and the records per segment and starts the writer thread.                 **
+** 2) long record()       takes moves and a count, checks them and returns the game's record.                         **
+** 3) int count()         takes a record and returns the number of moves in it.                                       **
+** 4) int move()          takes a record and an index and returns that move.                                          **
+** 5) char result()       takes a record and returns the winner, '-' for a draw or ' ' for a game left unfinished.    **
+** 6) BinaryBoard[] boards() takes a record and returns the empty board and the board after each move.                **
+** 7) void append()       takes a record (or moves and a count) and adds it to the log.                               **
+** 8) void flush()        waits until everything appended is written and forced to disk.                              **
+** 9) void close()        flushes and stops the writer thread.                                                        **
+** 10) void main()        writes random games to a temporary log and prints write and scan throughput.                **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class GameLog implements Closeable {
+
+  static final int MAGIC = 0x74746731;                                // "ttg1"
+  static final int HEADER = 16;                                       // Magic, record size, unused, first record
+  static final int RECORD = 6;                                        // Bytes per game
+  static final int BATCH = 4096;                                      // Records per write
+  static final int QUEUED = 64;                                       // Full batches waiting before append() blocks
+  static final int FLUSH_MILLIS = 100;                                // Longest a record waits in a part full batch
+  static final String RESULTS = " xo-";                               // Result by its 2 bits
+  static final String PREFIX = "games-";
+  static final String SUFFIX = ".log";
+  private static final long[] CLOSE = new long[0];                    // Queued last, ends the writer thread
+
+  final Path directory;
+  final int segmentRecords;                                           // Records per segment file
+  private final BlockingQueue<long[]> queue =
+      new ArrayBlockingQueue<long[]>(QUEUED);
+  private final ReentrantLock lock = new ReentrantLock();             // Guards batch, size, appended and closed
+  private long[] batch = new long[BATCH];
+  private int size;                                                   // Records in batch
+  private long appended;                                              // Records handed to the writer thread
+  private long written;                                               // Records written by it (guarded by this)
+  private volatile IOException failure;                               // Why the writer thread stopped, if it did
+  private final Thread writer;
+  private FileChannel segment;                                        // Only used by the writer thread
+  private long next;                                                  // Number of the next record written
+  private long room;                                                  // Records left in the current segment
+  private boolean closed;
+
+
+  public GameLog(Path directory, int segmentRecords) throws IOException {
+    if (segmentRecords < 1
+        || segmentRecords > (Integer.MAX_VALUE - HEADER) / RECORD) {  // A segment is mapped as one buffer
+      throw new IllegalArgumentException("segmentRecords out of range");
+    }
+    this.directory = directory;
+    this.segmentRecords = segmentRecords;
+    Files.createDirectories(directory);
+    Path[] files = segments(directory);
+    for (Path file : files) {                                         // Continues after the last whole record
+      next = Math.max(next, first(file) + whole(file));
+    }
+    if (files.length > 0) {
+      resume(files[files.length - 1]);
+    }
+    writer = new Thread(this::write, "GameLog writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+
+  static Path[] segments(Path directory) throws IOException {         // Segment files, oldest first
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+        PREFIX + "*" + SUFFIX)) {
+      Path[] found = new Path[0];
+      for (Path file : files) {
+        found = Arrays.copyOf(found, found.length + 1);
+        found[found.length - 1] = file;
+      }
+      Arrays.sort(found);                                             // Zero padded, so by name is by number
+      return found;
+    }
+  }
+
+
+  static long first(Path file) {                                      // Number of a segment's first record
+    String name = file.getFileName().toString();
+    return Long.parseLong(name.substring(PREFIX.length(),
+        name.length() - SUFFIX.length()));
+  }
+
+
+  static long whole(Path file) throws IOException {                   // Whole records a segment holds
+    return Math.max(0, Files.size(file) - HEADER) / RECORD;
+  }
+
+
+  /* Reopens the last segment to append to, unless it is full: a crash
+  ** can leave it with a record cut short, a bare header or a header cut
+  ** short, and the torn bytes are cut off (the header written again)
+  ** so the next record follows the last whole one. */
+  private void resume(Path file) throws IOException {
+    long records = whole(file);
+    if (first(file) + records != next || records >= segmentRecords) {
+      return;                                                         // The writer starts a new segment
+    }
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    try {
+      ByteBuffer found = ByteBuffer.allocate(HEADER);                 // As much of the header as there is
+      int read = 0;
+      while (found.hasRemaining() && read >= 0) {
+        read = channel.read(found, found.position());
+      }
+      if (!found.hasRemaining() && (found.getInt(0) != MAGIC
+          || found.getShort(4) != RECORD)) {
+        throw new IOException(file + " is not a game log segment");
+      }
+      channel.truncate(HEADER + records * RECORD);
+      ByteBuffer header = header(first(file));
+      while (header.hasRemaining()) {
+        channel.write(header, header.position());
+      }
+      channel.position(HEADER + records * RECORD);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    segment = channel;
+    room = segmentRecords - records;
+  }
+
+
+  static ByteBuffer header(long first) {                              // A segment's header, ready to write
+    ByteBuffer header = ByteBuffer.allocate(HEADER);
+    header.putInt(MAGIC).putShort((short) RECORD).putShort((short) 0)
+        .putLong(first).flip();
+    return header;
+  }
+
+
+  /* Packs a game from the empty board with x first. Every move has to
+  ** be an open position of a game not yet over, so a record always
+  ** replays; the result is read off the last position. */
+  public static long record(int[] moves, int count) {
+    if (count < 0 || count > 9) {
+      throw new IllegalArgumentException(count + " moves");
+    }
+    BinaryBoard board = new BinaryBoard();
+    long record = 0;
+    for (int i = 0; i < count; i++) {
+      int move = moves[i];
+      if (board.gameEnd() || move < 0 || move > 8
+          || (board.possibleMoves() >>> move & 1) == 0) {
+        throw new IllegalArgumentException("move " + i + " (" + move
+            + ") is not open");
+      }
+      board = board.move(move);
+      record |= (long) move << 4 * i;
+    }
+    int result = board.win('x') ? 1 : board.win('o') ? 2
+        : board.gameEnd() ? 3 : 0;
+    return record | (long) count << 36 | (long) result << 40;
+  }
+
+
+  public static int count(long record) {
+    return (int) (record >>> 36) & 15;
+  }
+
+
+  public static int move(long record, int i) {
+    return (int) (record >>> 4 * i) & 15;
+  }
+
+
+  public static char result(long record) {
+    return RESULTS.charAt((int) (record >>> 40) & 3);
+  }
+
+
+  public static BinaryBoard[] boards(long record) {                   // Replays the moves with move()
+    BinaryBoard[] boards = new BinaryBoard[count(record) + 1];
+    boards[0] = new BinaryBoard();
+    for (int i = 1; i < boards.length; i++) {
+      boards[i] = boards[i - 1].move(move(record, i - 1));
+    }
+    return boards;
+  }
+
+
+  public void append(int[] moves, int count) {
+    append(record(moves, count));
+  }
+
+
+  /* Adds a record to the current batch, handing the batch to the writer
+  ** thread once it is full. Throws UncheckedIOException once the writer
+  ** thread has failed, and IllegalStateException once closed. */
+  public void append(long record) {
+    lock.lock();
+    try {
+      check();
+      batch[size++] = record;
+      if (size == BATCH) {
+        hand(batch);
+        batch = new long[BATCH];
+        size = 0;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+
+  private void check() {                                              // Called holding lock
+    if (failure != null) {
+      throw new UncheckedIOException(failure);
+    }
+    if (closed) {
+      throw new IllegalStateException("game log closed");
+    }
+  }
+
+
+  private void hand(long[] records) {                                 // Called holding lock, so batches are queued
+    boolean interrupted = false;                                      // in the order their records were appended
+    while (true) {
+      try {
+        queue.put(records);
+        break;
+      } catch (InterruptedException e) {                              // Finishes the hand over (the record is
+        interrupted = true;                                           // accepted) and keeps the interrupt
+      }
+    }
+    appended += records.length;
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+
+  private void handPart() {                                           // Called holding lock
+    if (size > 0) {
+      hand(Arrays.copyOf(batch, size));
+      size = 0;
+    }
+  }
+
+
+  public void flush() throws IOException {                            // Written and forced once this returns
+    long target;
+    lock.lock();
+    try {
+      check();
+      handPart();
+      hand(new long[0]);                                              // An empty batch asks for a force
+      target = appended;
+    } finally {
+      lock.unlock();
+    }
+    synchronized (this) {
+      while (written < target && failure == null) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("interrupted waiting for the game log");
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      if (failure == null) {
+        handPart();
+        hand(CLOSE);
+      }
+      closed = true;
+    } finally {
+      lock.unlock();
+    }
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+
+  private void write() {                                              // Writer thread: takes batches until CLOSE
+    ByteBuffer out = ByteBuffer.allocateDirect(BATCH * RECORD);
+    try {
+      while (true) {
+        long[] records = queue.poll(FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+        if (records == null) {                                        // Nothing for a while, so send the part full
+          if (lock.tryLock()) {                                       // batch, unless an append is under way (it may
+            try {                                                     // be waiting on this thread)
+              if (size > 0 && queue.remainingCapacity() > 0) {
+                handPart();
+              }
+            } finally {
+              lock.unlock();
+            }
+          }
+          continue;
+        }
+        if (records == CLOSE) {
+          if (segment != null) {
+            segment.force(false);
+            segment.close();
+          }
+          return;
+        }
+        for (int i = 0; i < records.length;) {
+          if (room == 0) {
+            start();
+          }
+          int end = (int) Math.min(records.length, i + room);
+          out.clear();
+          for (int j = i; j < end; j++) {
+            long record = records[j];
+            out.putShort((short) (record >>> 32)).putInt((int) record);
+          }
+          out.flip();
+          while (out.hasRemaining()) {
+            segment.write(out);
+          }
+          room -= end - i;
+          next += end - i;
+          i = end;
+        }
+        if (records.length == 0 && segment != null) {                 // From flush()
+          segment.force(false);
+        }
+        synchronized (this) {
+          written += records.length;
+          notifyAll();
+        }
+      }
+    } catch (IOException e) {
+      failure = e;
+    } catch (InterruptedException e) {
+      failure = new IOException("game log writer interrupted");
+    }
+    synchronized (this) {
+      notifyAll();
+    }
+    queue.clear();                                                    // Frees appenders blocked on a full queue
+  }
+
+
+  private void start() throws IOException {                           // Closes the full segment, starts the next
+    if (segment != null) {
+      segment.force(false);
+      segment.close();
+    }
+    Path file = directory.resolve(String.format("%s%016d%s", PREFIX, next,
+        SUFFIX));
+    segment = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    ByteBuffer header = header(next);
+    while (header.hasRemaining()) {
+      segment.write(header);
+    }
+    room = segmentRecords;
+  }
+
+
+  /* Appends random games from one thread and times the appends, the
+  ** flush and a scan of every record with GameLogReader. */
+  public static void main(String[] args) throws IOException {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+    long[] sample = new long[1024];                                   // Random games, made before timing
+    int[] moves = new int[9];
+    for (int g = 0; g < sample.length; g++) {
+      BinaryBoard board = new BinaryBoard();
+      int count = 0;
+      while (!board.gameEnd()) {
+        moves[count] = Agent.RANDOM.move(board);
+        board = board.move(moves[count++]);
+      }
+      sample[g] = record(moves, count);
+    }
+    Path directory = Files.createTempDirectory("gamelog");
+    long start = System.nanoTime();
+    try (GameLog log = new GameLog(directory, 1 << 22)) {
+      for (int g = 0; g < games; g++) {
+        log.append(sample[g & 1023]);
+      }
+      long appended = System.nanoTime() - start;
+      log.flush();
+      long flushed = System.nanoTime() - start;
+      System.out.println(String.format("append: %.1f M games/s, with "
+          + "flush: %.1f M games/s (%.1f MB/s)", games * 1e3 / appended,
+          games * 1e3 / flushed, games * (double) RECORD * 1e3 / flushed));
+    }
+    start = System.nanoTime();
+    GameLogReader reader = GameLogReader.open(directory);
+    long[] results = new long[4];
+    reader.scan(record -> results[(int) (record >>> 40) & 3]++);
+    long scanned = System.nanoTime() - start;
+    System.out.println(String.format("scan: %.1f M games/s, %d x wins, "
+        + "%d o wins, %d draws", reader.count * 1e3 / scanned, results[1],
+        results[2], results[3]));
+    start = System.nanoTime();
+    long positions = reader.games().mapToLong(boards -> boards.length).sum();
+    System.out.println(String.format("replay: %.1f M games/s, %d positions",
+        reader.count * 1e3 / (System.nanoTime() - start), positions));
+    for (Path file : segments(directory)) {
+      Files.delete(file);
+    }
+    Files.delete(directory);
+  }
+}
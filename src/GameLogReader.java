@@ -0,0 +1,114 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: GameLogReader.java contains the reader of a GameLog directory. open() maps every segment     **
+********************** read only with a MappedByteBuffer, so records are read straight from the page cache without    **
+********************** being copied onto the heap, and takes the whole records each one held at that moment (a record **
+********************** still being written, or cut short by a crash, is left out; records appended later need a new   **
+********************** reader). Records are numbered from 0 across the segments in the order they were written.       **
+********************** scan() passes every record to a LongConsumer without allocating, for analytics over the packed **
+********************** values, and games() streams each game as the BinaryBoards it went through (GameLog.boards()),  **
+********************** for replay.                                                                                    **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) GameLogReader       Holds the mapped segments and the number of records in each.                                **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) GameLogReader open() takes a directory and maps its segments.                                                   **
+** 2) long record()       takes a record number and returns that record.                                              **
+** 3) void scan()         takes a LongConsumer and passes it every record in order.                                   **
+** 4) Stream games()      returns a stream of every game as its boards, from the empty board to the last move.        **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public class GameLogReader {
+
+  final MappedByteBuffer[] segments;
+  final long[] starts;                                                // Number of each segment's first record here
+  public final long count;                                            // Records in every segment
+
+
+  private GameLogReader(MappedByteBuffer[] segments, long[] starts,
+      long count) {
+    this.segments = segments;
+    this.starts = starts;
+    this.count = count;
+  }
+
+
+  public static GameLogReader open(Path directory) throws IOException {
+    Path[] files = GameLog.segments(directory);
+    MappedByteBuffer[] segments = new MappedByteBuffer[files.length];
+    long[] starts = new long[files.length];
+    long count = 0;
+    for (int s = 0; s < files.length; s++) {
+      try (FileChannel channel = FileChannel.open(files[s],
+          StandardOpenOption.READ)) {
+        long size = channel.size();
+        long records = Math.max(0, size - GameLog.HEADER) / GameLog.RECORD;
+        MappedByteBuffer segment = size < GameLog.HEADER ? null       // Too short to map a header from
+            : channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                GameLog.HEADER + records * GameLog.RECORD);           // Whole records only, outliving the channel
+        if (segment == null || segment.getInt(0) != GameLog.MAGIC
+            || segment.getShort(4) != GameLog.RECORD) {
+          throw new IOException(files[s] + " is not a game log segment");
+        }
+        segments[s] = segment;
+        starts[s] = count;
+        count += records;
+      }
+    }
+    return new GameLogReader(segments, starts, count);
+  }
+
+
+  private static long read(MappedByteBuffer segment, int offset) {  // Record at a byte offset, as GameLog wrote it
+    return (segment.getShort(offset) & 0xffffL) << 32
+        | segment.getInt(offset + 2) & 0xffffffffL;
+  }
+
+
+  public long record(long number) {
+    if (number < 0 || number >= count) {
+      throw new IndexOutOfBoundsException("record " + number + " of "
+          + count);
+    }
+    int low = 0;                                                      // Last segment starting at or before it
+    int high = segments.length - 1;                                   // (never an empty one: the next starts at the
+    while (low < high) {                                              // same number)
+      int mid = (low + high + 1) >>> 1;
+      if (starts[mid] <= number) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return read(segments[low],
+        GameLog.HEADER + (int) (number - starts[low]) * GameLog.RECORD);
+  }
+
+
+  public void scan(LongConsumer action) {
+    for (MappedByteBuffer segment : segments) {
+      for (int offset = GameLog.HEADER; offset < segment.limit();
+          offset += GameLog.RECORD) {
+        action.accept(read(segment, offset));
+      }
+    }
+  }
+
+
+  public Stream<BinaryBoard[]> games() {
+    return LongStream.range(0, count)
+        .mapToObj(number -> GameLog.boards(record(number)));
+  }
+}
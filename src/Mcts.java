@@ -0,0 +1,415 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: Mcts.java contains a Monte Carlo tree search (UCT) for MnkBoard positions, for boards where    **
+********************** neither Search nor MnkSearch reaches the end of the game and no evaluation is needed. Each     **
+********************** iteration walks down the tree from the position, taking at every node the child with the      **
+********************** highest upper confidence bound                                                                 **
+**********************                                                                                                **
+**********************      score / visits + EXPLORE * sqrt(ln(parent visits) / visits)     (unvisited ones first)    **
+**********************                                                                                                **
+********************** adds the children of the node it stops at (every open position), plays the game out at random **
+********************** from the first new child and adds the result to every node on the way down (2 for a win of    **
+********************** the player who made the node's move, 1 for a draw). The move returned is the child of the top  **
+********************** position visited the most. Nodes are not objects: each tree is a pool of parallel arrays       **
+********************** (first child, child count, move, visits, score) of a fixed capacity, with the children of a    **
+********************** node side by side, so an iteration allocates nothing, and once the pool is full leaves are     **
+********************** played out without being expanded. Playouts run on a copy of the two bitboards and a list of   **
+********************** the open positions (one swap per move), checking only the lines through each move for a win.  **
+**********************                                                                                                **
+********************** The tree is kept between calls: when the next position follows from the last one (the move    **
+********************** played and the reply), the subtree under it is copied into a second pool that then becomes    **
+********************** the tree, so its visits count towards the next move instead of being searched again. Given    **
+********************** more than one thread, each one grows its own tree (root parallelism, no locks, and each tree   **
+********************** is reused the same way), and the visits of the top position's moves are added up across them. **
+********************** A search is bounded by a number of iterations (shared among the threads), a time budget (the   **
+********************** clock is read every 64 iterations) or both.                                                   **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) Mcts                Holds the trees, the pool of threads and what the last search did.                          **
+** 2) Tree                Holds one thread's node pools, its random numbers and the scratch arrays for playouts.      **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) Mcts()              takes the nodes each tree can hold (default 2^18) and the number of threads (default 1).    **
+** 2) int bestMove()      takes a board, a number of iterations (0 for no limit) and a time budget in milliseconds    **
+**                        (0 for none) and returns the most visited move (-1 if the game is over).                    **
+** 3) void clear()        forgets every tree before the next search.                                                  **
+** 4) void main()         prints the iterations per second and the move found for 3,3,3, 4,4,4 and 5,5,4.            **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+public class Mcts {
+
+  static final double EXPLORE = 1.4;                                  // Weight of the confidence bound
+  static final int CHECK = 63;                                        // Iterations between reads of the clock, - 1
+
+  final Tree[] trees;                                                 // One per thread
+  final ForkJoinPool pool;                                            // Threads to search on (null for the caller's)
+  public long iterations;                                             // Iterations run by the last search
+  public long reused;                                                 // Visits of its position carried over
+  public int nodes;                                                   // Nodes in the trees after it
+
+
+  public Mcts() {
+    this(1 << 18, 1);
+  }
+
+
+  public Mcts(int capacity, int parallelism) {                        // The pool's threads are daemons that end when
+    if (capacity < 2 || parallelism < 1) {                            // idle
+      throw new IllegalArgumentException("capacity " + capacity
+          + ", parallelism " + parallelism);
+    }
+    trees = new Tree[parallelism];
+    for (int t = 0; t < parallelism; t++) {
+      trees[t] = new Tree(capacity, 0x6d637473L + t);
+    }
+    pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+  }
+
+
+  /* Moves each tree to the position (keeping the subtree under it if it
+  ** follows from the last one), runs the iterations split among the
+  ** trees until they or the time run out, and returns the move whose
+  ** visits add up to the most across the trees (the lowest index among
+  ** equals). */
+  public int bestMove(MnkBoard position, long iterationLimit, long millis) {
+    if (iterationLimit <= 0 && millis <= 0) {
+      throw new IllegalArgumentException("no iteration or time limit");
+    }
+    iterations = 0;
+    reused = 0;
+    nodes = 0;
+    if (position.gameEnd()) {
+      return -1;
+    }
+    long deadline = millis <= 0 ? Long.MAX_VALUE
+        : System.nanoTime() + millis * 1000000L;
+    long each = iterationLimit <= 0 ? Long.MAX_VALUE
+        : (iterationLimit + trees.length - 1) / trees.length;
+    for (Tree tree : trees) {
+      tree.advance(position);
+      reused += tree.visits[0];
+    }
+    if (pool == null) {
+      trees[0].search(each, deadline);
+    } else {
+      List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+      for (Tree tree : trees) {
+        tasks.add(() -> {
+          tree.search(each, deadline);
+          return null;
+        });
+      }
+      pool.invokeAll(tasks);
+    }
+    long[] visits = new long[position.cells];
+    for (Tree tree : trees) {
+      iterations += tree.iterations;
+      nodes += tree.size;
+      for (int c = tree.first[0]; c < tree.first[0] + tree.count[0]; c++) {
+        visits[tree.move[c]] += tree.visits[c];
+      }
+    }
+    int best = -1;
+    for (int i = 0; i < visits.length; i++) {
+      if (!position.occupied(i) && (best < 0 || visits[i] > visits[best])) {
+        best = i;
+      }
+    }
+    return best;
+  }
+
+
+  public void clear() {                                               // Forgets every tree
+    for (Tree tree : trees) {
+      tree.root = null;
+    }
+  }
+
+
+  static final class Tree {
+
+    static final int UNEXPANDED = -1;                                 // first[] of a node without children yet
+
+    final int capacity;                                               // Nodes a pool holds
+    final SplittableRandom random;
+    int[] first;                                                      // Index of each node's first child
+    short[] count;                                                    // Number of children
+    short[] move;                                                     // Position played to reach the node
+    int[] visits;
+    int[] score;                                                      // 2 per win, 1 per draw, for the node's mover
+    int size;                                                         // Nodes in use
+    int[] spareFirst;                                                 // Second pool, for copying a subtree into
+    short[] spareCount;
+    short[] spareMove;
+    int[] spareVisits;
+    int[] spareScore;
+    int[] origin;                                                     // Node each copied node came from (scratch)
+    MnkBoard root;                                                    // Position of node 0 (null before a search)
+    MnkBoard board;                                                   // Played forward and back every iteration
+    int[] path;                                                       // Nodes from the top to the current one
+    int[] open;                                                       // Open positions during a playout
+    long[] x;                                                         // Bitboards during a playout
+    long[] o;
+    long iterations;                                                  // Iterations run by the last search
+
+
+    Tree(int capacity, long seed) {
+      this.capacity = capacity;
+      this.random = new SplittableRandom(seed);
+      first = new int[capacity];
+      count = new short[capacity];
+      move = new short[capacity];
+      visits = new int[capacity];
+      score = new int[capacity];
+      spareFirst = new int[capacity];
+      spareCount = new short[capacity];
+      spareMove = new short[capacity];
+      spareVisits = new int[capacity];
+      spareScore = new int[capacity];
+      origin = new int[capacity];
+    }
+
+
+    /* Makes node 0 the position: the node the moves since the last
+    ** search lead to, with its subtree, if the tree holds it, otherwise
+    ** a new node. Each player's new stones are matched to a child in
+    ** turn, so any order of them that the tree holds is found. */
+    void advance(MnkBoard position) {
+      int node = UNEXPANDED;
+      if (root != null && root.cells == position.cells
+          && root.m == position.m && root.k == position.k
+          && follows(root, position)) {
+        MnkBoard walked = root.copy();
+        node = 0;
+        while (node != UNEXPANDED && walked.stones < position.stones) {
+          int child = UNEXPANDED;
+          for (int c = first[node]; c < first[node] + count[node]; c++) {
+            if (!walked.occupied(move[c])
+                && position.at(move[c]) == walked.turn) {
+              child = c;
+              break;
+            }
+          }
+          if (child != UNEXPANDED) {
+            walked.play(move[child]);
+          }
+          node = child;
+        }
+        if (walked.turn != position.turn) {
+          node = UNEXPANDED;
+        }
+      }
+      if (node == UNEXPANDED) {                                       // Starts over from one node
+        size = 1;
+        first[0] = UNEXPANDED;
+        count[0] = 0;
+        visits[0] = 0;
+        score[0] = 0;
+      } else if (node != 0) {
+        copy(node);
+      }
+      root = position.copy();
+      board = position.copy();
+      if (open == null || open.length != position.cells) {
+        path = new int[position.cells + 1];
+        open = new int[position.cells];
+        x = new long[position.words];
+        o = new long[position.words];
+      }
+    }
+
+
+    private static boolean follows(MnkBoard from, MnkBoard to) {      // Whether every stone of from is in to
+      for (int w = 0; w < from.words; w++) {
+        if ((from.x[w] & ~to.x[w]) != 0 || (from.o[w] & ~to.o[w]) != 0) {
+          return false;
+        }
+      }
+      return from.stones <= to.stones;
+    }
+
+
+    /* Copies node and everything under it into the spare pool, breadth
+    ** first so each node's children stay side by side, and swaps the
+    ** pools. Node becomes node 0. */
+    private void copy(int node) {
+      origin[0] = node;
+      int copied = 1;
+      for (int n = 0; n < copied; n++) {
+        int from = origin[n];
+        spareCount[n] = count[from];
+        spareMove[n] = move[from];
+        spareVisits[n] = visits[from];
+        spareScore[n] = score[from];
+        if (first[from] == UNEXPANDED) {
+          spareFirst[n] = UNEXPANDED;
+          continue;
+        }
+        spareFirst[n] = copied;
+        for (int c = 0; c < count[from]; c++) {
+          origin[copied++] = first[from] + c;
+        }
+      }
+      size = copied;
+      int[] ints = first;
+      first = spareFirst;
+      spareFirst = ints;
+      short[] shorts = count;
+      count = spareCount;
+      spareCount = shorts;
+      shorts = move;
+      move = spareMove;
+      spareMove = shorts;
+      ints = visits;
+      visits = spareVisits;
+      spareVisits = ints;
+      ints = score;
+      score = spareScore;
+      spareScore = ints;
+    }
+
+
+    void search(long limit, long deadline) {                          // Iterates until limit or deadline
+      iterations = 0;
+      while (iterations < limit && ((iterations & CHECK) != 0
+          || System.nanoTime() < deadline)) {
+        iterate();
+        iterations++;
+      }
+    }
+
+
+    /* One iteration: select down the tree, expand the leaf, play out
+    ** from its first child (or score the end of the game reached) and
+    ** add the result to every node on the path. The board is played
+    ** forward along the path and taken back afterwards. */
+    private void iterate() {
+      int node = 0;
+      int depth = 0;
+      path[0] = 0;
+      while (first[node] != UNEXPANDED && board.winner == 0
+          && board.stones < board.cells) {
+        node = select(node);
+        board.play(move[node]);
+        path[++depth] = node;
+      }
+      if (board.winner == 0 && board.stones < board.cells
+          && expand(node)) {
+        node = select(node);
+        board.play(move[node]);
+        path[++depth] = node;
+      }
+      char winner = board.winner != 0 || board.stones == board.cells
+          ? board.winner : playout();
+      char mover = root.turn;                                         // Made the move into path[1]
+      for (int d = 1; d <= depth; d++) {
+        int n = path[d];
+        visits[n]++;
+        score[n] += winner == mover ? 2 : winner == 0 ? 1 : 0;
+        mover = mover == 'x' ? 'o' : 'x';
+      }
+      visits[0]++;
+      for (int d = depth; d >= 1; d--) {
+        board.undo(move[path[d]]);
+      }
+    }
+
+
+    private int select(int node) {                                    // Child with the highest upper bound
+      int best = first[node];
+      double bestBound = -1;
+      double log = Math.log(Math.max(1, visits[node]));
+      for (int c = first[node]; c < first[node] + count[node]; c++) {
+        if (visits[c] == 0) {
+          return c;                                                   // Every child is tried once first
+        }
+        double bound = score[c] / (2.0 * visits[c])
+            + EXPLORE * Math.sqrt(log / visits[c]);
+        if (bound > bestBound) {
+          bestBound = bound;
+          best = c;
+        }
+      }
+      return best;
+    }
+
+
+    private boolean expand(int node) {                                // Adds a child per open position, if they fit
+      int open = board.cells - board.stones;
+      if (size + open > capacity) {
+        return false;
+      }
+      first[node] = size;
+      count[node] = (short) open;
+      for (int i = 0; i < board.cells; i++) {
+        if (!board.occupied(i)) {
+          first[size] = UNEXPANDED;
+          count[size] = 0;
+          move[size] = (short) i;
+          visits[size] = 0;
+          score[size] = 0;
+          size++;
+        }
+      }
+      return true;
+    }
+
+
+    /* Plays the game out with random moves on copies of the bitboards
+    ** and returns the winner (0 for a draw). Only the lines through each
+    ** move are checked. */
+    private char playout() {
+      System.arraycopy(board.x, 0, x, 0, x.length);
+      System.arraycopy(board.o, 0, o, 0, o.length);
+      int left = 0;
+      for (int i = 0; i < board.cells; i++) {
+        if (!board.occupied(i)) {
+          open[left++] = i;
+        }
+      }
+      char turn = board.turn;
+      while (left > 0) {
+        int r = random.nextInt(left);
+        int cell = open[r];
+        open[r] = open[--left];                                       // Swaps the last open position in
+        long[] mine = turn == 'x' ? x : o;
+        mine[cell >>> 6] |= 1L << cell;
+        for (int l : board.linesAt[cell]) {
+          long[] line = board.lines[l];
+          int w = 0;
+          while (w < line.length && (mine[w] & line[w]) == line[w]) {
+            w++;
+          }
+          if (w == line.length) {
+            return turn;
+          }
+        }
+        turn = turn == 'x' ? 'o' : 'x';
+      }
+      return 0;
+    }
+  }
+
+
+  public static void main(String[] args) {                            // Prints iterations per second
+    int[][] games = { { 3, 3, 3 }, { 4, 4, 4 }, { 5, 5, 4 } };
+    Mcts mcts = new Mcts(1 << 20, 1);
+    for (int[] g : games) {
+      MnkBoard board = new MnkBoard(g[0], g[1], g[2]);
+      long start = System.nanoTime();
+      int move = mcts.bestMove(board, 0, 1000);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      System.out.println(String.format("%d,%d,%d: move %d, %d iterations "
+          + "(%.0f/s), %d nodes", g[0], g[1], g[2], move, mcts.iterations,
+          mcts.iterations / seconds, mcts.nodes));
+    }
+  }
+}
@@ -0,0 +1,299 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: MnkBoard.java contains the game logic for an m,n,k game: m columns, n rows, and the first      **
+********************** player to hold k positions in a row (across, down or on either diagonal) wins. Tic tac toe is  **
+********************** 3,3,3, and 15,15,5 is gomoku. Like BinaryBoard, every position is a bit: position i (row i /   **
+********************** m, column i % m, so 3,3,3 uses BinaryBoard's indexes) is bit i % 64 of word i / 64 of x's and  **
+********************** of o's long[] bitboard. Instead of the hardcoded XWINS values, the winning permutations are    **
+********************** generated for the board's m, n and k: each line of k positions is a mask over the same words,  **
+********************** and a player has won if their bitboard covers every bit of one mask. Every position keeps the  **
+********************** list of lines through it, so after a move only those lines are checked, and a static           **
+********************** evaluation (from x's point of view, for searches that cannot reach the end of the game) is     **
+********************** kept up to date the same way:                                                                  **
+**********************                                                                                                **
+**********************      line holding only x's:  + weights[x's in it]       line holding both: 0                   **
+**********************      line holding only o's:  - weights[o's in it]       empty line:        0                   **
+**********************                                                                                                **
+********************** along with a Zobrist hash of the position for MnkSearch's transposition table. Boards are      **
+********************** changed in place with play() and undo() (the search makes and takes back moves on one board), **
+********************** or copied with move(), which works like BinaryBoard.move().                                   **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) MnkBoard            Holds x's and o's bitboards, the player to move, the generated lines and the running        **
+**                        evaluation and hash.                                                                        **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) MnkBoard()          takes m, n and k and constructs an empty board with x to move.                              **
+** 2) MnkBoard of()       takes a BinaryBoard and returns the same position as a 3,3,3 board.                         **
+** 3) MnkBoard copy()     returns an independent copy of the board.                                                   **
+** 4) MnkBoard move()     takes a position and returns a copy with the move made for the player to move.              **
+** 5) void play()         takes an open position and makes the move on this board.                                    **
+** 6) void undo()         takes the position of the last move made and takes it back.                                 **
+** 7) char at()           takes a position and returns 'x', 'o' or ' ' (open).                                        **
+** 8) boolean win()       takes a player and returns whether they hold every position of a line.                      **
+** 9) boolean gameEnd()   returns whether a player has won or the board is full.                                      **
+** 10) int evaluate()     returns the static evaluation from x's point of view.                                       **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class MnkBoard {
+
+  static final int MAX_WEIGHT_SHIFT = 16;                             // Caps each line's weight at 2^16
+
+  public final int m;                                                 // Columns
+  public final int n;                                                 // Rows
+  public final int k;                                                 // Positions in a row needed to win
+  public final int cells;                                             // m * n positions
+  final int words;                                                    // Longs per bitboard
+  final long[][] lines;                                               // Mask of every line of k positions
+  final int[][] linesAt;                                              // Lines through each position
+  final int[] weights;                                                // Value of a line by how many one player holds
+  final long[][] zobrist;                                             // Random key per player and position
+  final long[] x;                                                     // x's positions
+  final long[] o;                                                     // o's positions
+  public char turn;                                                   // Player to move, 'x' or 'o'
+  public int stones;                                                  // Positions taken
+  public char winner;                                                 // 'x' or 'o' once someone has won, else 0
+  int eval;                                                           // Static evaluation from x's point of view
+  long hash;                                                          // Zobrist hash of the positions (not the turn)
+
+
+  public MnkBoard(int m, int n, int k) {                              // Generates the lines for m, n and k
+    if (m < 1 || n < 1 || k < 1 || k > Math.max(m, n)) {
+      throw new IllegalArgumentException("no line of " + k + " fits on "
+          + m + "x" + n);
+    }
+    this.m = m;
+    this.n = n;
+    this.k = k;
+    this.cells = m * n;
+    this.words = (cells + 63) / 64;
+    int[][] directions = { { 0, 1 }, { 1, 0 }, { 1, 1 }, { 1, -1 } };  // Across, down, both diagonals (row, column)
+    int count = 0;
+    long[][] found = new long[4 * cells][];
+    for (int[] d : directions) {
+      for (int r = 0; r < n; r++) {
+        for (int c = 0; c < m; c++) {
+          int endR = r + d[0] * (k - 1);
+          int endC = c + d[1] * (k - 1);
+          if (endR < 0 || endR >= n || endC < 0 || endC >= m) {
+            continue;                                                 // Line would run off the board
+          }
+          long[] mask = new long[words];
+          for (int s = 0; s < k; s++) {
+            int cell = (r + d[0] * s) * m + c + d[1] * s;
+            mask[cell >>> 6] |= 1L << cell;
+          }
+          found[count++] = mask;
+        }
+      }
+    }
+    lines = Arrays.copyOf(found, count);
+    int[] through = new int[cells];                                   // Number of lines through each position
+    for (long[] mask : lines) {
+      for (int cell = 0; cell < cells; cell++) {
+        through[cell] += (int) (mask[cell >>> 6] >>> cell) & 1;
+      }
+    }
+    linesAt = new int[cells][];
+    for (int cell = 0; cell < cells; cell++) {
+      linesAt[cell] = new int[through[cell]];
+      for (int l = 0, j = 0; l < lines.length; l++) {
+        if ((lines[l][cell >>> 6] >>> cell & 1) != 0) {
+          linesAt[cell][j++] = l;
+        }
+      }
+    }
+    weights = new int[k + 1];
+    for (int s = 1; s <= k; s++) {                                    // 8 times more for each position held
+      weights[s] = 1 << Math.min(3 * (s - 1), MAX_WEIGHT_SHIFT);
+    }
+    Random random = new Random(0x6d6e6bL ^ (long) m << 32 ^ n << 16 ^ k);
+    zobrist = new long[2][cells];
+    for (int cell = 0; cell < cells; cell++) {
+      zobrist[0][cell] = random.nextLong();
+      zobrist[1][cell] = random.nextLong();
+    }
+    x = new long[words];
+    o = new long[words];
+    turn = 'x';
+  }
+
+
+  private MnkBoard(MnkBoard board) {                                  // Copy sharing the generated tables
+    m = board.m;
+    n = board.n;
+    k = board.k;
+    cells = board.cells;
+    words = board.words;
+    lines = board.lines;
+    linesAt = board.linesAt;
+    weights = board.weights;
+    zobrist = board.zobrist;
+    x = board.x.clone();
+    o = board.o.clone();
+    turn = board.turn;
+    stones = board.stones;
+    winner = board.winner;
+    eval = board.eval;
+    hash = board.hash;
+  }
+
+
+  public static MnkBoard of(BinaryBoard board) {                      // x's bits 0 - 8 and o's bits 9 - 17 become
+    MnkBoard mnk = new MnkBoard(3, 3, 3);                             // the same positions on a 3,3,3 board
+    for (int i = 0; i < 9; i++) {
+      if ((board.state >>> i & 1) != 0) {
+        mnk.place(i, 'x');
+      } else if ((board.state >>> i + 9 & 1) != 0) {
+        mnk.place(i, 'o');
+      }
+    }
+    mnk.turn = board.turn;
+    if (mnk.win('x')) {
+      mnk.winner = 'x';
+    } else if (mnk.win('o')) {
+      mnk.winner = 'o';
+    }
+    return mnk;
+  }
+
+
+  public MnkBoard copy() {
+    return new MnkBoard(this);
+  }
+
+
+  public MnkBoard move(int cell) {                                    // Like BinaryBoard.move(), this board is left
+    MnkBoard next = copy();                                           // as it was
+    next.play(cell);
+    return next;
+  }
+
+
+  /* Makes a move for the player to move. The position is an unchecked
+  ** precondition (it has to be open and the game not over), as in
+  ** BinaryBoard.move(), because the search only passes open positions
+  ** and this is called for every position it visits. */
+  public void play(int cell) {
+    char player = turn;
+    place(cell, player);
+    turn = player == 'x' ? 'o' : 'x';
+    long[] mine = player == 'x' ? x : o;
+    for (int l : linesAt[cell]) {                                     // Only a line through the move can be new
+      if (covers(mine, lines[l])) {
+        winner = player;
+        return;
+      }
+    }
+  }
+
+
+  public void undo(int cell) {                                        // Takes back the last move (made at cell)
+    turn = turn == 'x' ? 'o' : 'x';
+    winner = 0;                                                       // Nobody can have won before the last move
+    long[] mine = turn == 'x' ? x : o;
+    int[] at = linesAt[cell];
+    for (int j = 0; j < at.length; j++) {
+      eval -= value(at[j]);
+    }
+    mine[cell >>> 6] &= ~(1L << cell);
+    for (int j = 0; j < at.length; j++) {
+      eval += value(at[j]);
+    }
+    hash ^= zobrist[turn == 'x' ? 0 : 1][cell];
+    stones--;
+  }
+
+
+  private void place(int cell, char player) {                         // Sets the bit and updates the evaluation and
+    long[] mine = player == 'x' ? x : o;                              // hash
+    int[] at = linesAt[cell];
+    for (int j = 0; j < at.length; j++) {
+      eval -= value(at[j]);
+    }
+    mine[cell >>> 6] |= 1L << cell;
+    for (int j = 0; j < at.length; j++) {
+      eval += value(at[j]);
+    }
+    hash ^= zobrist[player == 'x' ? 0 : 1][cell];
+    stones++;
+  }
+
+
+  private int value(int l) {                                          // Line l's share of the evaluation
+    long[] mask = lines[l];
+    int xs = 0;
+    int os = 0;
+    for (int w = 0; w < words; w++) {
+      xs += Long.bitCount(x[w] & mask[w]);
+      os += Long.bitCount(o[w] & mask[w]);
+    }
+    if (os == 0) {
+      return weights[xs];
+    }
+    return xs == 0 ? -weights[os] : 0;
+  }
+
+
+  private boolean covers(long[] bits, long[] mask) {                  // Whether bits hold every position of mask
+    for (int w = 0; w < words; w++) {
+      if ((bits[w] & mask[w]) != mask[w]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+
+  public boolean occupied(int cell) {
+    return ((x[cell >>> 6] | o[cell >>> 6]) >>> cell & 1) != 0;
+  }
+
+
+  public char at(int cell) {
+    if ((x[cell >>> 6] >>> cell & 1) != 0) {
+      return 'x';
+    }
+    return (o[cell >>> 6] >>> cell & 1) != 0 ? 'o' : ' ';
+  }
+
+
+  public boolean win(char player) {                                   // Checks every line, not just the last move's
+    long[] bits = player == 'x' ? x : o;
+    for (long[] mask : lines) {
+      if (covers(bits, mask)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+
+  public boolean gameEnd() {
+    return winner != 0 || stones == cells;
+  }
+
+
+  public int evaluate() {
+    return eval;
+  }
+
+
+  @Override
+  public String toString() {                                          // Rows of x, o and . for open positions
+    StringBuilder text = new StringBuilder();
+    for (int cell = 0; cell < cells; cell++) {
+      char c = at(cell);
+      text.append(c == ' ' ? '.' : c);
+      if (cell % m == m - 1) {
+        text.append('\n');
+      }
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,511 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: MnkSearch.java contains a search for MnkBoard positions too large to search to the end within  **
+********************** a move. It is the negamax with α-β pruning of Search.java, scored the same way (a win is WIN,  **
+********************** a draw 0, one point off per move made), but stopped after a number of moves (the depth) where  **
+********************** it scores the position with MnkBoard's static evaluation instead. bestMove() deepens one move  **
+********************** at a time (iterative deepening), searching the best move of the last depth first and keeping   **
+********************** what every depth found in a transposition table keyed on the board's Zobrist hash, so each     **
+********************** depth mostly follows the one before. The time budget is a hard limit: the clock is read every  **
+********************** 1,024 positions (and as each forked task starts) and once it has run out the search unwinds at **
+********************** once and the best move of the deepest depth completed is returned (or of the unfinished depth, **
+********************** once the previous best move has been searched in it, since anything that beat it is then known **
+********************** to be better).                                                                                 **
+**********************                                                                                                **
+********************** On boards of up to FULL_BOARD positions every open position is tried. On larger boards only    **
+********************** open positions within RADIUS rows and columns of a taken one are, since a gomoku move far from **
+********************** every stone is never the best one. As in Search, a forced win scores the same however many     **
+********************** moves away it is, so deepening stops at the first depth that proves a win (the quickest one)   **
+********************** or a loss, unless the depth limit reaches the end of the game. Then every depth is searched,   **
+********************** the end is reached and the lowest index among equally good moves is taken, so a 3,3,3 search   **
+********************** returns the same move as BinaryBoard.bestMove().                                               **
+**********************                                                                                                **
+********************** Given a parallelism above 1, the search runs on a ForkJoinPool of that many threads (young     **
+********************** brothers wait): at the top position, and at every position with SPLIT_DEPTH or more moves to   **
+********************** go, the first move is searched alone and, unless it cuts, the rest are forked as tasks, each   **
+********************** on its own copy of the board. Siblings share their position's α in an AtomicInteger, so each  **
+********************** one starts with the best window found so far, and once one of them reaches β the others see   **
+********************** the cut and return at once. The top position keeps its best score and move in an AtomicLong,  **
+********************** and every search shares the transposition table. Only an entry searched to exactly the depth  **
+********************** needed is used for its score, so the score of every move (and the lowest index among the best **
+********************** ones) does not depend on the order the threads fill the table in, and a parallel search       **
+********************** returns the same move as a sequential one.                                                    **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) MnkSearch           Holds the transposition and history tables, the pool, the deadline and what the last search **
+**                        found.                                                                                      **
+** 2) Worker              Holds one thread's copy of the board, its move lists and node count.                        **
+** 3) Split               Holds the shared α and β (and whether β has been reached) of a position whose moves are     **
+**                        searched in parallel.                                                                       **
+** 4) Sibling             Holds a task searching one of those moves.                                                  **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) MnkSearch()         takes the log2 size of the transposition table (default 2^18 entries) and the number of     **
+**                        threads to search with (default 1).                                                         **
+** 2) int bestMove()      takes a board, a depth limit and a time budget in milliseconds (0 for none) and returns the **
+**                        best move found (-1 if the game is over), or the tablebase's move if one is set and holds   **
+**                        the position.                                                                               **
+** 3) void clear()        empties the transposition and history tables before the next search.                        **
+** 4) void main()         prints the depth reached and move found for 3,3,3, 4,4,4, 5,5,4 and 15,15,5 in one second.  **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MnkSearch {
+
+  public static final int WIN = 1 << 28;                              // Score of a won position (above any evaluation)
+  static final int INFINITY = WIN + 1;                                // Wider than any score
+  static final int PROVEN = WIN - 4096;                               // Scores past this are wins or losses
+  static final int FULL_BOARD = 25;                                   // Boards up to 5x5 try every open position
+  static final int RADIUS = 2;                                        // Otherwise only positions this close to a stone
+  static final int SPLIT_DEPTH = 3;                                   // Fewest moves to go worth forking siblings for
+  static final long NONE = Long.MIN_VALUE;                            // No move searched yet (packed score and move)
+  static final int EXACT = 0;                                         // Transposition table bound flags, as in
+  static final int LOWER = 1;                                         // TranspositionTable
+  static final int UPPER = 2;
+
+  final long[] keys;                                                  // Hash of each entry's position XOR the entry
+  final long[] entries;                                               // score << 32 | depth << 20 | flag << 16 | move+1
+  final int mask;                                                     // Entries - 1
+  final ForkJoinPool pool;                                            // Threads to search on (null for the caller's)
+  final LongAdder forked = new LongAdder();                           // Positions visited by forked tasks
+  MnkBoard board;                                                     // Position being searched (a copy)
+  int[] history;                                                      // How often (and how deep) each move cut
+  long deadline;                                                      // System.nanoTime() to stop at
+  volatile boolean stopped;                                           // Time ran out during the search
+  public long nodes;                                                  // Positions visited by the last search
+  public int depth;                                                   // Deepest depth completed by the last search
+  public int score;                                                   // Score of the move returned, for the mover
+  public Tablebase tablebase;                                         // Answers the positions it holds (or null)
+
+
+  public MnkSearch() {
+    this(18);
+  }
+
+
+  public MnkSearch(int tableBits) {
+    this(tableBits, 1);
+  }
+
+
+  public MnkSearch(int tableBits, int parallelism) {                  // The pool's threads are daemons that end when
+    keys = new long[1 << tableBits];                                  // idle
+    entries = new long[1 << tableBits];
+    mask = (1 << tableBits) - 1;
+    pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+  }
+
+
+  /* Deepens from 1 to maxDepth (or until every open position has been
+  ** played, a win or loss is proven short of that or millis run out)
+  ** and returns the best move of the deepest search completed. */
+  public int bestMove(MnkBoard position, int maxDepth, long millis) {
+    long start = System.nanoTime();
+    deadline = millis <= 0 ? Long.MAX_VALUE : start + millis * 1000000L;
+    stopped = false;
+    nodes = 0;
+    depth = 0;
+    score = 0;
+    forked.reset();
+    if (position.gameEnd()) {
+      return -1;
+    }
+    if (tablebase != null && tablebase.contains(position)) {          // Solved offline, one byte read
+      depth = position.cells - position.stones;
+      score = tablebase.score(position) * (WIN - 1);
+      return tablebase.bestMove(position);
+    }
+    prepare(position);
+    Worker worker = new Worker(board, board.cells - board.stones, null);
+    int count = worker.candidates(0);
+    int[] root = Arrays.copyOf(worker.lists[0], count);               // Root moves, best so far moved to the front
+    int best = root[0];
+    int limit = Math.min(maxDepth, board.cells - board.stones);
+    for (int d = 1; d <= limit && !stopped; d++) {
+      final int to = d;
+      long found = pool == null ? worker.root(root, d)
+          : pool.invoke(ForkJoinTask.adapt(() -> worker.root(root, to)));
+      if (found == NONE) {                                            // Stopped before the first move was searched
+        break;
+      }
+      best = ~(int) found;
+      score = (int) (found >> 32);
+      if (stopped) {                                                  // The previous best was searched first, so a
+        break;                                                        // different move here is better than it
+      }
+      depth = d;
+      int j = 0;
+      while (root[j] != best) {
+        j++;
+      }
+      for (; j > 0; j--) {                                            // Search this depth's best first next time
+        root[j] = root[j - 1];
+      }
+      root[0] = best;
+      if (Math.abs(score) > PROVEN && limit < board.cells - board.stones) {
+        break;                                                        // Nothing deeper changes a forced result, but
+      }                                                               // the end is searched when in reach, so ties
+    }                                                                 // go to the lowest index as in BinaryBoard
+    nodes = worker.nodes + forked.sum();
+    return best;
+  }
+
+
+  public void clear() {                                               // Forgets every position searched
+    board = null;
+  }
+
+
+  private void prepare(MnkBoard position) {                           // Sizes the tables for this board
+    if (board == null || board.cells != position.cells
+        || board.m != position.m) {
+      history = new int[position.cells];
+      Arrays.fill(keys, 0);
+      Arrays.fill(entries, 0);
+    }
+    board = position.copy();
+  }
+
+
+  /* Packs a score and move into one long, score << 32 | ~move, so that
+  ** the larger of two is the higher score or, for equal scores, the
+  ** lower index. */
+  static long pack(int score, int move) {
+    return (long) score << 32 | ~move & 0xffffffffL;
+  }
+
+
+  private void cut(int i, int depth) {                                // Rewards move i for a cut, deeper cuts count
+    history[i] += depth * depth;                                      // for more (racy in parallel, which can only
+    if (history[i] > 1 << 20) {                                       // change the order moves are tried in)
+      for (int k = 0; k < history.length; k++) {
+        history[k] >>= 1;
+      }
+    }
+  }
+
+
+  private final class Worker {
+
+    final MnkBoard board;                                             // This thread's copy of the position
+    final int[][] lists;                                              // Ordered moves for each ply (reused)
+    final long[] near;                                                // Open positions near a stone (scratch)
+    final Split split;                                                // Innermost parallel position above (or null)
+    long nodes;                                                       // Positions visited
+
+
+    Worker(MnkBoard board, int depth, Split split) {
+      this.board = board;
+      this.lists = new int[depth + 1][board.cells];
+      this.near = new long[board.words];
+      this.split = split;
+    }
+
+
+    /* Searches every top position move to depth d and returns the best
+    ** score and move packed (NONE if stopped before the first one was
+    ** done). In parallel the moves after the first are forked, and each
+    ** starts from the best found by the time it does. */
+    long root(int[] root, int d) {
+      AtomicLong best = new AtomicLong(NONE);
+      rootMove(root[0], d, best);
+      if (pool == null || stopped) {
+        for (int j = 1; j < root.length && !stopped; j++) {
+          rootMove(root[j], d, best);
+        }
+        return best.get();
+      }
+      List<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+      for (int j = 1; j < root.length; j++) {
+        final int i = root[j];
+        tasks.add(new RecursiveAction() {
+          @Override
+          protected void compute() {
+            Worker worker = new Worker(board.copy(), d, null);
+            worker.rootMove(i, d, best);
+            forked.add(worker.nodes);
+          }
+        });
+      }
+      ForkJoinTask.invokeAll(tasks);
+      return best.get();
+    }
+
+
+    /* Searches top position move i with a full window, except that a
+    ** move with a lower index than the best so far is searched with α
+    ** one point lower, so that a tie is seen (and the lower index taken)
+    ** rather than cut, as in Search.minimax(). */
+    private void rootMove(int i, int d, AtomicLong best) {
+      long found = best.get();
+      int alpha = found == NONE ? -INFINITY : (int) (found >> 32);
+      int low = found != NONE && i < ~(int) found ? alpha - 1 : alpha;
+      board.play(i);
+      int value = -negamax(-INFINITY - 1, -low - 1, d - 1, 1) - 1;
+      board.undo(i);
+      if (!stopped) {
+        best.accumulateAndGet(pack(value, i), Math::max);
+      }
+    }
+
+
+    /* Returns the value of the position for the player to move, exact
+    ** inside (alpha, beta) and a bound outside it, as in Search.negamax().
+    ** At depth 0 the static evaluation stands in for the search. */
+    int negamax(int alpha, int beta, int depth, int ply) {
+      if ((++nodes & 1023) == 0 && System.nanoTime() > deadline) {
+        stopped = true;
+      }
+      if (stopped || split != null && split.aborted()) {
+        return 0;                                                     // Thrown away by every caller
+      }
+      if (board.winner != 0) {                                        // The player who just moved won
+        return -WIN;
+      }
+      if (board.stones == board.cells) {
+        return 0;
+      }
+      if (depth == 0) {
+        return board.turn == 'x' ? board.eval : -board.eval;
+      }
+      long key = board.hash ^ (board.turn == 'x' ? 0 : -1L);          // Same stones, other player to move
+      int slot = (int) key & mask;
+      int first = -1;
+      long entry = entries[slot];
+      if (entry != 0 && (keys[slot] ^ entry) == key) {                // A read torn by a racing store is a miss
+        int stored = (int) (entry >> 32);
+        int flag = (int) (entry >>> 16) & 3;
+        first = ((int) entry & 0xffff) - 1;
+        if ((int) (entry >>> 20 & 0xfff) == depth
+            && (flag == EXACT || flag == LOWER && stored >= beta
+            || flag == UPPER && stored <= alpha)) {
+          return stored;
+        }
+      }
+      int alphaIn = alpha;
+      int best = -INFINITY;
+      int bestMove = -1;
+      int count = order(ply, first);
+      for (int j = 0; j < count; j++) {
+        int i = lists[ply][j];
+        int value;
+        if (j == 1 && pool != null && depth >= SPLIT_DEPTH) {         // First move did not cut, fork the rest
+          long found = siblings(alpha, beta, depth, ply, count);
+          if (found == NONE) {
+            return 0;
+          }
+          value = (int) (found >> 32);
+          i = ~(int) found;
+          j = count;
+        } else {
+          board.play(i);
+          value = -negamax(-beta - 1, -alpha - 1, depth - 1, ply + 1) - 1;
+          board.undo(i);
+        }
+        if (stopped || split != null && split.aborted()) {
+          return 0;
+        }
+        if (value > best) {
+          best = value;
+          bestMove = i;
+          if (best > alpha) {
+            alpha = best;
+          }
+          if (alpha >= beta) {                                        // Opponent will never allow this position
+            cut(i, depth);
+            break;
+          }
+        }
+      }
+      int flag = best <= alphaIn ? UPPER : best >= beta ? LOWER : EXACT;
+      long stored = (long) best << 32 | (long) depth << 20 | flag << 16
+          | (bestMove + 1);
+      entries[slot] = stored;                                         // Always replaces whatever was stored before
+      keys[slot] = key ^ stored;
+      return best;
+    }
+
+
+    /* Searches moves 1 to count - 1 of ply in parallel and returns the
+    ** best score and move packed, NONE if stopped or cut from above. */
+    private long siblings(int alpha, int beta, int depth, int ply,
+        int count) {
+      Split shared = new Split(split, alpha, beta);
+      List<Sibling> tasks = new ArrayList<Sibling>();
+      for (int j = 1; j < count; j++) {
+        tasks.add(new Sibling(board, lists[ply][j], depth - 1, shared));
+      }
+      ForkJoinTask.invokeAll(tasks);
+      return stopped ? NONE : shared.best.get();
+    }
+
+
+    /* Fills the move list for ply with the candidate positions: first
+    ** (the cached best move, if any) and then the rest sorted by history,
+    ** then by the number of lines through the position (so in 3,3,3 the
+    ** center, then corners, then edges), then by index. */
+    private int order(int ply, int first) {
+      int count = candidates(ply);
+      int[] list = lists[ply];
+      for (int j = 1; j < count; j++) {                               // Insertion sort, stable for equal keys
+        int i = list[j];
+        long key = priority(i, first);
+        int at = j;
+        while (at > 0 && priority(list[at - 1], first) < key) {
+          list[at] = list[at - 1];
+          at--;
+        }
+        list[at] = i;
+      }
+      return count;
+    }
+
+
+    private long priority(int i, int first) {                         // Higher is tried sooner
+      if (i == first) {
+        return Long.MAX_VALUE;
+      }
+      return (long) history[i] << 8 | board.linesAt[i].length;
+    }
+
+
+    /* Fills the move list for ply with the open positions to try, in
+    ** index order: all of them on small boards, otherwise those within
+    ** RADIUS of a taken position (the center if nothing is taken). */
+    int candidates(int ply) {
+      int[] list = lists[ply];
+      int count = 0;
+      if (board.cells <= FULL_BOARD || board.stones == 0) {
+        for (int i = 0; i < board.cells; i++) {
+          if (!board.occupied(i)) {
+            list[count++] = i;
+          }
+        }
+        if (board.stones == 0 && board.cells > FULL_BOARD) {          // Open board: only the center is worth trying
+          list[0] = board.n / 2 * board.m + board.m / 2;
+          count = 1;
+        }
+        return count;
+      }
+      Arrays.fill(near, 0);
+      for (int i = 0; i < board.cells; i++) {
+        if (board.occupied(i)) {
+          int r = i / board.m;
+          int c = i % board.m;
+          for (int dr = -RADIUS; dr <= RADIUS; dr++) {
+            for (int dc = -RADIUS; dc <= RADIUS; dc++) {
+              int rr = r + dr;
+              int cc = c + dc;
+              if (rr >= 0 && rr < board.n && cc >= 0 && cc < board.m) {
+                int cell = rr * board.m + cc;
+                near[cell >>> 6] |= 1L << cell;
+              }
+            }
+          }
+        }
+      }
+      for (int i = 0; i < board.cells; i++) {
+        if ((near[i >>> 6] >>> i & 1) != 0 && !board.occupied(i)) {
+          list[count++] = i;
+        }
+      }
+      return count;
+    }
+  }
+
+
+  private static final class Split {
+
+    final Split parent;                                               // Parallel position above (or null)
+    final AtomicInteger alpha;                                        // Best score any sibling has found so far
+    final int beta;
+    final AtomicLong best = new AtomicLong(NONE);                     // Best score and move, packed
+    volatile boolean cut;                                             // A sibling reached β
+
+
+    Split(Split parent, int alpha, int beta) {
+      this.parent = parent;
+      this.alpha = new AtomicInteger(alpha);
+      this.beta = beta;
+    }
+
+
+    boolean aborted() {                                               // This or a position above has been cut
+      for (Split s = this; s != null; s = s.parent) {
+        if (s.cut) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+
+  @SuppressWarnings("serial")                                        // A task is never serialized
+  private final class Sibling extends RecursiveAction {
+
+    final MnkBoard board;                                             // Position the move is made from (only read,
+    final int move;                                                   // to copy it)
+    final int depth;                                                  // Moves to go after this one
+    final Split split;
+
+
+    Sibling(MnkBoard board, int move, int depth, Split split) {
+      this.board = board;
+      this.move = move;
+      this.depth = depth;
+      this.split = split;
+    }
+
+
+    @Override
+    protected void compute() {
+      if (System.nanoTime() > deadline) {                             // A small task may never count 1,024 positions
+        stopped = true;
+      }
+      int alpha = split.alpha.get();                                  // Best window found so far
+      if (alpha >= split.beta || split.aborted() || stopped) {
+        return;
+      }
+      Worker worker = new Worker(board.copy(), depth, split);
+      worker.board.play(move);
+      int value = -worker.negamax(-split.beta - 1, -alpha - 1, depth, 0)
+          - 1;
+      forked.add(worker.nodes);
+      if (stopped || split.aborted()) {
+        return;
+      }
+      split.best.accumulateAndGet(pack(value, move), Math::max);
+      split.alpha.accumulateAndGet(value, Math::max);
+      if (value >= split.beta) {                                      // Every sibling still searching returns
+        split.cut = true;
+      }
+    }
+  }
+
+
+  public static void main(String[] args) {                            // Prints how deep one second gets
+    int[][] games = { { 3, 3, 3 }, { 4, 4, 4 }, { 5, 5, 4 }, { 15, 15, 5 } };
+    MnkSearch search = new MnkSearch(20);
+    for (int[] g : games) {
+      MnkBoard board = new MnkBoard(g[0], g[1], g[2]);
+      long start = System.nanoTime();
+      int move = search.bestMove(board, Integer.MAX_VALUE, 1000);
+      System.out.println(String.format("%d,%d,%d: move %d, depth %d, "
+          + "score %d, %d nodes in %.0f ms", g[0], g[1], g[2], move,
+          search.depth, search.score, search.nodes,
+          (System.nanoTime() - start) / 1e6));
+    }
+  }
+}
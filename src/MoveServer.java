@@ -0,0 +1,164 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: MoveServer.java contains a headless HTTP server for the computer player, built on the JDK's    **
+********************** own com.sun.net.httpserver package. Clients send a board state and the player to move:        **
+**********************                                                                                                **
+**********************      GET /move?state=528&turn=x      ->      {"move":1,"gameEnd":false}                        **
+**********************                                                                                                **
+********************** and get back BinaryBoard.bestMove() (-1 once the game is over) and BinaryBoard.gameEnd().      **
+********************** Every request runs on its own virtual thread, so a slow search never holds up other requests. **
+********************** PerfectPlayTable is built before the server starts listening, so every position reachable     **
+********************** from an empty board is a table lookup, and the query and response are parsed and written by   **
+********************** hand to keep each request down to a few small allocations. The port is read from the PORT     **
+********************** environment variable (default 8080).                                                          **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) MoveServer          Handles requests to /move.                                                                  **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) HttpServer start()  takes a port (0 for any free port), starts the server and returns it.                       **
+** 2) void handle()       answers one request.                                                                        **
+** 3) String answer()     takes the query string of a request and returns the JSON answer (null if it's invalid).     **
+** 4) int intParam()      takes a query string and a name and returns the number given for it (-1 if missing).      **
+** 5) int charParam()     takes a query string and a name and returns the character given for it (-1 if missing).   **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class MoveServer implements HttpHandler {
+
+  static final int BACKLOG = 1024;                                    // Connections queued before the OS refuses more
+  static final String NODELAY = "sun.net.httpserver.nodelay";         // Read once, when the first server is created
+
+
+  public static void main(String[] args) throws IOException {
+    String port = System.getenv("PORT");                              // Set by the platform for the web process
+    System.out.println(PerfectPlayTable.get().report());
+    HttpServer server = start(port == null ? 8080 : Integer.parseInt(port));
+    System.out.println("MoveServer listening on port "
+        + server.getAddress().getPort());
+  }
+
+
+  public static HttpServer start(int port) throws IOException {
+    PerfectPlayTable.get();                                           // Solve every position before the first request
+    if (System.getProperty(NODELAY) == null) {                        // Headers and body are separate writes, so with
+      System.setProperty(NODELAY, "true");                            // Nagle on every keep-alive reply waits for the
+    }                                                                 // client's delayed ACK (about 40ms)
+    HttpServer server = HttpServer.create(new InetSocketAddress(port),
+        BACKLOG);
+    server.createContext("/move", new MoveServer());
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());  // One virtual thread per request
+    server.start();
+    return server;
+  }
+
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try {
+      int status = 200;
+      String body = null;
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        status = 405;
+        body = "{\"error\":\"GET only\"}";
+      } else {
+        body = answer(exchange.getRequestURI().getRawQuery());
+        if (body == null) {
+          status = 400;
+          body = "{\"error\":\"expected state=0..262143 with no square "
+              + "taken twice and turn=x or turn=o\"}";
+        }
+      }
+      byte[] bytes = body.getBytes(StandardCharsets.US_ASCII);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status, bytes.length);
+      OutputStream out = exchange.getResponseBody();
+      out.write(bytes);
+      out.close();
+    } finally {
+      exchange.close();
+    }
+  }
+
+
+  static String answer(String query) {                                // JSON answer for a query, null if invalid
+    int state = intParam(query, "state");
+    int turn = charParam(query, "turn");
+    if (state < 0 || state >= 1 << 18 || (state & state >>> 9) != 0    // Out of range or a square taken twice
+        || turn != 'x' && turn != 'o') {
+      return null;
+    }
+    BinaryBoard board = new BinaryBoard(state, (char) turn);
+    boolean end = board.gameEnd();
+    int move = end ? -1 : board.bestMove();
+    return new StringBuilder(32).append("{\"move\":").append(move)
+        .append(",\"gameEnd\":").append(end).append('}').toString();
+  }
+
+
+  static int find(String query, String name) {                        // Index where the value of name starts in
+    if (query == null) {                                              // query, -1 if there is no such parameter
+      return -1;
+    }
+    int start = 0;
+    while (start < query.length()) {
+      if (query.startsWith(name, start)                               // Found "name=" at the start of a parameter
+          && query.startsWith("=", start + name.length())) {
+        return start + name.length() + 1;
+      }
+      int next = query.indexOf('&', start);
+      if (next < 0) {
+        return -1;
+      }
+      start = next + 1;
+    }
+    return -1;
+  }
+
+
+  static int end(String query, int from) {                            // Index where the value starting at from ends
+    int end = query.indexOf('&', from);
+    return end < 0 ? query.length() : end;
+  }
+
+
+  static int intParam(String query, String name) {                    // Digits of name as an int (-1 if missing,
+    int from = find(query, name);                                     // empty, not a number or too long for a state)
+    if (from < 0) {
+      return -1;
+    }
+    int end = end(query, from);
+    if (from == end || end - from > 9) {
+      return -1;
+    }
+    int value = 0;
+    for (int i = from; i < end; i++) {
+      char c = query.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+
+  static int charParam(String query, String name) {                   // Single character value of name (-1 if
+    int from = find(query, name);                                     // missing or not exactly one character)
+    if (from < 0 || end(query, from) != from + 1) {
+      return -1;
+    }
+    return query.charAt(from);
+  }
+}
@@ -0,0 +1,138 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: PerfectPlayTable.java contains a precomputed table of perfect play for every position that can **
+********************** be reached from new BinaryBoard(). There are only 5,478 such positions, so they are enumerated **
+********************** once when the class is loaded and the best move and heuristic score of each one is stored in   **
+********************** two dense byte arrays indexed by the base-3 index of the state (see BoardTables.java) and the  **
+********************** turn, 39,366 bytes each. bestMove() and minimaxmove() then become a single array read instead  **
+********************** of a full recursive search. The scores follow exactly the same rules as                        **
+********************** BinaryBoard.minimaxmove() (win = +-100, draw = 0, one point penalty per move made, first index **
+********************** wins ties), computed by Search.minimax(), which minimaxmove() delegates to. That full search   **
+********************** is the reference the table is tested against.                                                  **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) PerfectPlayTable    Holds the move and score tables and the statistics gathered while building them.            **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) PerfectPlayTable get()  returns the shared table, built the first time the class is used.                       **
+** 2) boolean contains()      takes a state and turn and returns whether the position is stored in the table.        **
+** 3) int bestMove()          takes a state and turn and returns the index of the best move (-1 if game is over).    **
+** 4) int score()             takes a state and turn and returns the heuristic score of the position.                **
+** 5) int[] minimaxmove()     takes a state and turn and returns the same array BinaryBoard.minimaxmove() returns.   **
+** 6) String report()         returns the number of positions, the build time and the memory used by the table.      **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+public class PerfectPlayTable {
+
+  static final int SIZE = 2 * BoardTables.STATES;                     // 3^9 states, times 2 for whose turn it is
+  static final byte UNSET = Byte.MIN_VALUE;                           // Flag for a position that was never reached
+
+  private static final PerfectPlayTable TABLE =                       // Built once, when the class is first loaded
+      new PerfectPlayTable();
+
+  final byte[] moves = new byte[SIZE];                                // Best move index per position (-1 = game over)
+  final byte[] scores = new byte[SIZE];                               // Heuristic score per position (-100 -> 100)
+  public final int positions;                                         // Number of positions stored in the table
+  public final long buildNanos;                                       // Time spent enumerating and solving them
+
+
+  PerfectPlayTable() {                                                // Enumerates every position reachable from
+    long start = System.nanoTime();                                   // an empty board with x moving first
+    java.util.Arrays.fill(moves, UNSET);
+    int[] count = new int[1];                                         // Incremented once per newly solved position
+    solve(new BinaryBoard(), count);
+    positions = count[0];
+    buildNanos = System.nanoTime() - start;
+  }
+
+
+  public static PerfectPlayTable get() {                              // Returns the shared table
+    return TABLE;
+  }
+
+
+  static int index(int state, char turn) {                            // Each state's base-3 index has an x-to-move
+    return BoardTables.index(state) << 1 | (turn == 'x' ? 0 : 1);     // and an o-to-move slot, so the turn is the
+  }                                                                   // lowest bit
+
+
+  /* Plain minimax over BinaryBoard objects, scored exactly like
+  ** BinaryBoard.minimaxmove() (first best child, one point penalty per
+  ** move), except every solved position is stored so that each one is
+  ** only ever searched once. Kept independent of Search so the two can
+  ** be checked against each other. */
+  private int solve(BinaryBoard board, int[] count) {
+    int idx = index(board.state, board.turn);
+    if (moves[idx] != UNSET) {                                        // Already solved through another move order
+      return scores[idx];
+    }
+    int score;
+    int move = -1;                                                    // Flag move as unset (game over)
+    if (board.win('x')) {
+      score = 100;
+    } else if (board.win('o')) {
+      score = -100;
+    } else if (Integer.bitCount(board.state) == 9) {
+      score = 0;
+    } else {
+      score = 1000;                                                   // Flag score as unset
+      int open = board.possibleMoves();
+      for (int i = 0; i < 9; i++) {
+        if ((open & (1 << i)) != 0) {                                 // If position at i is empty
+          int value = solve(board.move(i), count);
+          if (score == 1000 || board.turn == 'x' && value > score     // Keep the first best value for the player
+              || board.turn == 'o' && value < score) {                // evaluating
+            score = value;
+            move = i;
+          }
+        }
+      }
+      score += (board.turn == 'x' ? -1 : 1);                          // Penalize taking longer to reach the same end
+    }
+    moves[idx] = (byte) move;
+    scores[idx] = (byte) score;
+    count[0]++;
+    return score;
+  }
+
+
+  public boolean contains(int state, char turn) {                     // Whether the position was reached while
+    return state >= 0 && state < (1 << 18)                            // building the table (a position taken twice
+        && (state & state >>> 9) == 0                                 // has no base-3 index)
+        && moves[index(state, turn)] != UNSET;
+  }
+
+
+  public int bestMove(int state, char turn) {                         // Stored best move for the position
+    return moves[index(state, turn)];
+  }
+
+
+  public int score(int state, char turn) {                            // Stored heuristic score for the position
+    return scores[index(state, turn)];
+  }
+
+
+  public int[] minimaxmove(int state, char turn) {                    // Same [score, move, α, β] array as
+    int idx = index(state, turn);                                     // BinaryBoard.minimaxmove()
+    return BinaryBoard.minOrMax(scores[idx], moves[idx], turn);
+  }
+
+
+  public long bytes() {                                               // Memory held by the two tables
+    return (long) moves.length + scores.length;
+  }
+
+
+  public String report() {                                            // Startup cost and memory of the table
+    return String.format("PerfectPlayTable: %d positions solved in "
+        + "%.1f ms, %d KB", positions, buildNanos / 1e6, bytes() / 1024);
+  }
+
+
+  public static void main(String[] args) {                            // Prints the cost of building the table
+    System.out.println(get().report());
+  }
+}
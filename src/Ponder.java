@@ -0,0 +1,94 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: Ponder.java contains the computer player's thinking for Game, done on background threads      **
+********************** instead of the Swing event dispatch thread. As soon as it is the human's turn, start() queues  **
+********************** one BinaryBoard.bestMove() per open position, i.e. the computer's answer to every move the     **
+********************** human could make next, and keeps the 9 results as futures. When the human clicks, reply()     **
+********************** hands back the future for that move, usually already complete, so the answer is applied at    **
+********************** once. Starting on a new position, or cancel() (called when Game starts a new game), cancels    **
+********************** every future still pending, and a cancelled search that has not started never runs.           **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) Ponder              Holds the position pondered and the future answer to each human move from it.               **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) Ponder()            takes the executor the searches run on.                                                     **
+** 2) void start()        takes the board the human is about to move on and queues the answer to every open move.     **
+** 3) CompletableFuture<Integer> reply() takes a board and the human's move and returns the computer's answer (-1 if  **
+**                        that move ends the game), pondered or computed now.                                         **
+** 4) void cancel()       cancels every pending answer and forgets the position.                                      **
+** 5) ExecutorService executor() returns a pool of daemon threads, one per processor, for pondering.                  **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class Ponder {
+
+  final ExecutorService executor;                                     // Runs the searches
+  final CompletableFuture<Integer>[] replies;                         // Answer to each human move (null if none)
+  private int state = -1;                                             // Position pondered (-1 for none)
+
+
+  @SuppressWarnings("unchecked")
+  public Ponder(ExecutorService executor) {
+    this.executor = executor;
+    this.replies = (CompletableFuture<Integer>[]) new CompletableFuture<?>[9];
+  }
+
+
+  public static ExecutorService executor() {                          // Daemon threads never keep the JVM running
+    return Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(), runnable -> {
+          Thread thread = new Thread(runnable, "ponder");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+
+  public synchronized void start(BinaryBoard board) {                 // Ponders every open move on board
+    cancel();
+    state = board.state;
+    int open = board.possibleMoves();
+    for (int i = 0; i < 9; i++) {
+      if ((open & 1 << i) != 0) {
+        replies[i] = answer(board.move(i));
+      }
+    }
+  }
+
+
+  /* Returns the answer to the human making move on board, pondered if
+  ** board is the position start() was last called with, otherwise
+  ** queued now. */
+  public synchronized CompletableFuture<Integer> reply(BinaryBoard board,
+      int move) {
+    if (board.state == state && replies[move] != null) {
+      return replies[move];
+    }
+    return answer(board.move(move));
+  }
+
+
+  public synchronized void cancel() {                                 // Drops every answer not yet found
+    for (int i = 0; i < 9; i++) {
+      if (replies[i] != null) {
+        replies[i].cancel(false);
+        replies[i] = null;
+      }
+    }
+    state = -1;
+  }
+
+
+  private CompletableFuture<Integer> answer(BinaryBoard board) {      // Computer's move on board, -1 if the game is
+    if (board.gameEnd()) {                                            // already over
+      return CompletableFuture.completedFuture(-1);
+    }
+    return CompletableFuture.supplyAsync(board::bestMove, executor);
+  }
+}
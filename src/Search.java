@@ -0,0 +1,285 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: Search.java contains the search core behind BinaryBoard.minimaxmove(). Instead of creating a   **
+********************** new BinaryBoard (and a new int[]) for every position visited, a Search keeps a single int      **
+********************** state that moves are added to before searching a child (make) and subtracted from afterwards   **
+********************** (unmake), using the precomputed powers of 2 in BITS rather than Math.pow(). Results are packed **
+********************** into a single int as well:                                                                   **
+**********************                                                                                                **
+**********************            packed = score << 4 | (move + 1)        score = packed >> 4                         **
+**********************                                                    move  = (packed & 15) - 1                   **
+**********************                                                                                                **
+********************** so no heap allocation happens once a search has started. The search is negamax with α-β      **
+********************** pruning: every position is scored from the point of view of the player to move, so x          **
+********************** maximizing and o minimizing become the same code with the sign flipped, and the (α, β) window **
+********************** is passed down to every child so a cut in one position also narrows the search below it.      **
+********************** Moves are tried center first, then corners, then edges, ordered within that by a history      **
+********************** table of the moves that caused cuts before (and after the cached best move when searching     **
+********************** through a TranspositionTable). Scores follow the rules of minimaxmove() (win = 100, draw = 0,  **
+********************** one point penalty per move made) and the move returned is always the lowest index with the    **
+********************** best score, so the answers match the original search exactly.                                 **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) Search              Holds the position being searched, the move lists and history table, the (optional)         **
+**                        transposition table and counters of what the search did (positions visited, won and drawn   **
+**                        positions reached, cutoffs and the deepest ply), which SearchMetrics reports.               **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) Search()            takes an optional TranspositionTable (null searches without a cache).                       **
+** 2) int minimax()       takes a state and turn and returns the packed score and move minimaxmove() finds.           **
+** 3) int[] minimaxmove() takes a board and returns [score, move] from minimax().                                     **
+** 4) int bestMove()      takes a board and returns the index of the best move from minimax().                        **
+** 5) int pack()          takes a score and move and packs them into one int.                                         **
+** 6) int score()         takes a packed int and returns the score.                                                   **
+** 7) int move()          takes a packed int and returns the move index.                                              **
+** 8) void main()         prints the positions visited with and without a cache for the empty board and every first   **
+**                        move.                                                                                       **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+public class Search {
+
+  static final int[] BITS = { 1, 2, 4, 8, 16, 32, 64, 128, 256 };     // 2^i for every board index i
+  static final int[] ORDER = { 4, 0, 2, 6, 8, 1, 3, 5, 7 };           // Center, corners, then edges
+
+  final TranspositionTable table;                                     // Cache of searched positions (null for none)
+  final int[] history = new int[9];                                   // How often (and how deep) each move cut
+  final int[][] moveLists = new int[10][9];                           // Ordered moves for each ply (reused)
+  public long nodes;                                                  // Positions visited since construction
+  public long xWins;                                                  // Positions visited that x had won
+  public long oWins;                                                  // Positions visited that o had won
+  public long draws;                                                  // Full boards visited with no winner
+  public long cutoffs;                                                // Searches cut short by α >= β
+  public int maxDepth;                                                // Deepest ply reached (the top position is 0)
+  private int state;                                                  // Position being searched (BinaryBoard.state)
+  private boolean xTurn;                                              // Whether x is the player to move
+
+
+  public Search() {                                                   // Searches without a cache
+    this(null);
+  }
+
+
+  public Search(TranspositionTable table) {                           // Searches through the given cache
+    this.table = table;
+  }
+
+
+  public static int pack(int score, int move) {                       // Packs a score and move index (-1 -> 8)
+    return score << 4 | (move + 1);
+  }
+
+
+  public static int score(int packed) {                               // Arithmetic shift keeps the score's sign
+    return packed >> 4;
+  }
+
+
+  public static int move(int packed) {                                // Low 4 bits hold move + 1
+    return (packed & 15) - 1;
+  }
+
+
+  static boolean win(int mask) {                                      // Whether one player's 9 bits hold a win
+    return BoardTables.win(mask);
+  }
+
+
+  private void make(int i) {                                          // Adds move i for the player to move
+    state += xTurn ? BITS[i] : BITS[i] << 9;
+    xTurn = !xTurn;
+  }
+
+
+  private void unmake(int i) {                                        // Takes move i back off the board
+    xTurn = !xTurn;
+    state -= xTurn ? BITS[i] : BITS[i] << 9;
+  }
+
+
+  /* Fills the move list for ply with every open position: first (the
+  ** cached best move, if any) and then the rest in ORDER, sorted by
+  ** history with an insertion sort that keeps ORDER among equals. */
+  private int orderMoves(int ply, int first) {
+    int[] list = moveLists[ply];
+    int open = ~(state | state >>> 9) & 511;                          // Positions neither x nor o has taken
+    int count = 0;
+    if (first >= 0 && (open & BITS[first]) != 0) {
+      list[count++] = first;
+      open -= BITS[first];
+    }
+    int sorted = count;                                               // The cached move stays in front
+    for (int k = 0; k < 9; k++) {
+      int i = ORDER[k];
+      if ((open & BITS[i]) != 0) {
+        int j = count++;
+        while (j > sorted && history[list[j - 1]] < history[i]) {
+          list[j] = list[j - 1];
+          j--;
+        }
+        list[j] = i;
+      }
+    }
+    return count;
+  }
+
+
+  private void cut(int i) {                                           // Rewards move i for a cut, deeper cuts (more
+    int empty = 9 - Integer.bitCount(state);                          // open positions left) count for more
+    history[i] += empty * empty;
+    if (history[i] > 1 << 20) {                                       // Ages the table so it never overflows
+      for (int k = 0; k < 9; k++) {
+        history[k] >>= 1;
+      }
+    }
+  }
+
+
+  /* Searches the top position with a full window. Children are searched
+  ** in the usual order and with the usual window, except that a child
+  ** with a lower index than the best move so far is searched with α
+  ** one point lower, so that a tie with the best score is seen (and
+  ** the lower index taken) rather than cut. That keeps the move the
+  ** same as the original search's, which took the first best child. */
+  public int minimax(int state, char turn) {
+    this.state = state;
+    this.xTurn = turn == 'x';
+    nodes++;
+    if (win(state)) {                                                 // x is maximizing, if x wins return 100 as max
+      xWins++;
+      return pack(100, -1);
+    }
+    if (win(state >>> 9)) {                                           // o is minimizing, if o wins return -100 as min
+      oWins++;
+      return pack(-100, -1);
+    }
+    if (Integer.bitCount(state) == 9) {                               // Full board is a draw
+      draws++;
+      return pack(0, -1);
+    }
+    int best = -1000;                                                 // Flag score as unset
+    int bestMove = -1;
+    int alpha = -1000;
+    int beta = 1000;
+    int count = orderMoves(0, -1);
+    for (int k = 0; k < count; k++) {
+      int i = moveLists[0][k];
+      int low = i < bestMove ? alpha - 1 : alpha;                     // Lower index, so a tie has to be seen
+      make(i);
+      int value = -negamax(-beta - 1, -low - 1, 1) - 1;
+      unmake(i);
+      if (value > best || value == best && i < bestMove) {
+        best = value;
+        bestMove = i;
+        alpha = Math.max(alpha, best);
+      }
+    }
+    return pack(xTurn ? best : -best, bestMove);                      // Back to x's point of view
+  }
+
+
+  public int[] minimaxmove(BinaryBoard board) {                       // Returns [heuristicNodeValue, moveIndex] with
+    int packed = minimax(board.state, board.turn);                    // the value from x's point of view, like
+    return new int[] { score(packed), move(packed) };                 // BinaryBoard.minimaxmove()
+  }
+
+
+  public int bestMove(BinaryBoard board) {                            // Returns the move with the best heuristic value
+    return move(minimax(board.state, board.turn));
+  }
+
+
+  /* Returns the value of the position for the player to move. Scores
+  ** inside (alpha, beta) are exact. A score <= alpha only tells us the
+  ** true value is no higher, a score >= beta that it is no lower, which
+  ** is exactly what the bound flag in the transposition table records.
+  ** Because each move made costs a point, a child worth v is worth
+  ** -v - 1 here, so the child is searched with (-beta - 1, -alpha - 1). */
+  private int negamax(int alpha, int beta, int ply) {
+    nodes++;
+    if (ply > maxDepth) {
+      maxDepth = ply;
+    }
+    int sign = xTurn ? 1 : -1;                                        // Flips x's point of view to the mover's
+    if (win(state)) {
+      xWins++;
+      return 100 * sign;
+    }
+    if (win(state >>> 9)) {
+      oWins++;
+      return -100 * sign;
+    }
+    if (Integer.bitCount(state) == 9) {
+      draws++;
+      return 0;
+    }
+    char turn = xTurn ? 'x' : 'o';
+    int alphaIn = alpha;                                              // Window the position was searched with
+    int key = 0;                                                      // Canonical state of the position
+    int t = 0;                                                        // Transform to its canonical state
+    int first = -1;                                                   // Move to try first (cached best move)
+    if (table != null) {
+      int canonical = Symmetry.canonical(state);
+      key = canonical >>> 3;
+      t = canonical & 7;
+      int entry = table.probe(key, turn);
+      if (entry != 0) {
+        int score = TranspositionTable.score(entry);
+        int flag = TranspositionTable.flag(entry);
+        int move = TranspositionTable.move(entry);
+        first = move < 0 ? -1 : Symmetry.move(move, Symmetry.inverse(t));
+        if (flag == TranspositionTable.EXACT                          // Cached score answers the question if it is
+            || flag == TranspositionTable.LOWER && score >= beta      // exact or a bound already outside the window
+            || flag == TranspositionTable.UPPER && score <= alpha) {
+          return score;
+        }
+      }
+    }
+    int best = -1000;                                                 // Flag score as unset
+    int bestMove = -1;
+    int count = orderMoves(ply, first);
+    for (int k = 0; k < count; k++) {
+      int i = moveLists[ply][k];
+      make(i);
+      int value = -negamax(-beta - 1, -alpha - 1, ply + 1) - 1;
+      unmake(i);
+      if (value > best) {
+        best = value;
+        bestMove = i;
+        if (best > alpha) {
+          alpha = best;
+        }
+        if (alpha >= beta) {                                          // Opponent will never allow this position
+          cutoffs++;
+          cut(i);
+          break;
+        }
+      }
+    }
+    if (table != null) {
+      int flag = best <= alphaIn ? TranspositionTable.UPPER
+          : best >= beta ? TranspositionTable.LOWER
+          : TranspositionTable.EXACT;
+      table.store(key, turn, best, Symmetry.move(bestMove, t), flag);
+    }
+    return best;
+  }
+
+
+  public static void main(String[] args) {                            // Prints nodes visited with and without a cache
+    System.out.println("first move   no cache   cache");
+    for (int i = -1; i < 9; i++) {                                    // -1 is the empty board
+      BinaryBoard board = new BinaryBoard();
+      if (i >= 0) {
+        board = board.move(i);
+      }
+      Search plain = new Search();
+      Search cached = new Search(new TranspositionTable());
+      plain.minimaxmove(board);
+      cached.minimaxmove(board);
+      System.out.println(String.format("%10s %10d %7d",
+          i < 0 ? "none" : Integer.toString(i), plain.nodes, cached.nodes));
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: SearchEvent.java contains the JDK Flight Recorder event committed for every BinaryBoard        **
+********************** bestMove() call while SearchMetrics is enabled and a recording has the event switched on, e.g. **
+**********************                                                                                                **
+**********************      java -Dttt.metrics=true -XX:StartFlightRecording=filename=ttt.jfr ... ttt.MoveServer     **
+**********************                                                                                                **
+********************** The event's duration is the wall time of the call. With no recording running JFR drops the    **
+********************** event before any field is filled in.                                                          **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) SearchEvent         One bestMove() call: the position, the answer and what the search did to find it.           **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ttt.Search")
+@Label("Best Move")
+@Category("Tic Tac Toe")
+@Description("One call to BinaryBoard.bestMove()")
+public class SearchEvent extends Event {
+
+  @Label("State")
+  int state;                                                          // BinaryBoard.state of the position
+
+  @Label("Turn")
+  char turn;                                                          // Player to move
+
+  @Label("Move")
+  int move;                                                           // Index returned
+
+  @Label("Table")
+  @Description("Answered by PerfectPlayTable without a search")
+  boolean table;
+
+  @Label("Nodes")
+  long nodes;
+
+  @Label("X Wins")
+  long xWins;
+
+  @Label("O Wins")
+  long oWins;
+
+  @Label("Draws")
+  long draws;
+
+  @Label("Cutoffs")
+  long cutoffs;
+
+  @Label("Max Depth")
+  int maxDepth;
+}
@@ -0,0 +1,282 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: SearchMetrics.java contains the opt-in instrumentation of BinaryBoard.bestMove(). It is off by **
+********************** default, and then bestMove() only reads one static boolean. Once enabled (with enable() or by  **
+********************** starting the JVM with -Dttt.metrics=true) every call is timed and the counters of its Search   **
+********************** (positions visited, x wins, o wins and draws reached, α-β cutoffs and the deepest ply) are     **
+********************** added to running totals and histograms. The totals are published two ways:                   **
+**********************                                                                                                **
+**********************      JMX   ttt:type=SearchMetrics (see SearchMetricsMXBean.java), registered by enable()       **
+**********************      JFR   one SearchEvent per call, committed while a recording has the event switched on     **
+**********************                                                                                                **
+********************** The totals are LongAdders and the histograms atomic arrays, so concurrent bestMove() calls     **
+********************** (MoveServer, SessionManager) are all counted without a lock.                                 **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) SearchMetrics       The single set of totals and histograms, and the MXBean that exposes them.                  **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) void enable()       registers the MXBean and starts recording bestMove() calls.                                 **
+** 2) void disable()      stops recording (the totals and the MXBean stay).                                           **
+** 3) SearchMetrics get() returns the totals.                                                                         **
+** 4) int bestMove()      takes a board and returns the move BinaryBoard.bestMove() returns, recording the call.      **
+** 5) int bucket()        takes a value and returns its histogram bucket.                                             **
+** 6) String report()     returns the totals and latency percentiles on one line.                                     **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class SearchMetrics implements SearchMetricsMXBean {
+
+  public static final String NAME = "ttt:type=SearchMetrics";         // JMX object name
+  static final int BUCKETS = 40;                                      // Powers of 2, up to 2^39 ns (about 9 minutes)
+
+  private static final SearchMetrics METRICS = new SearchMetrics();
+  public static volatile boolean enabled;                             // Whether bestMove() calls are recorded (set
+                                                                      // from JMX threads, read by searching ones)
+
+  static {
+    if (Boolean.getBoolean("ttt.metrics")) {                          // Opted in on the command line
+      enable();
+    }
+  }
+
+  final LongAdder calls = new LongAdder();
+  final LongAdder tableHits = new LongAdder();
+  final LongAdder nodes = new LongAdder();
+  final LongAdder xWins = new LongAdder();
+  final LongAdder oWins = new LongAdder();
+  final LongAdder draws = new LongAdder();
+  final LongAdder cutoffs = new LongAdder();
+  final AtomicInteger maxDepth = new AtomicInteger();
+  final LongAdder totalNanos = new LongAdder();
+  final AtomicLongArray latency = new AtomicLongArray(BUCKETS);       // Calls by wall time in nanoseconds
+  final AtomicLongArray nodeCounts = new AtomicLongArray(BUCKETS);    // Calls by positions visited
+
+
+  private SearchMetrics() {                                           // Only the single instance
+  }
+
+
+  public static SearchMetrics get() {
+    return METRICS;
+  }
+
+
+  public static synchronized void enable() {                          // Registers the MXBean once, then records
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(NAME);
+      if (!server.isRegistered(name)) {
+        server.registerMBean(METRICS, name);
+      }
+    } catch (JMException e) {                                         // Name is constant and the bean compliant, so
+      throw new IllegalStateException(e);                             // this is a programming error
+    }
+    enabled = true;
+  }
+
+
+  public static void disable() {
+    enabled = false;
+  }
+
+
+  /* Finds the move through BinaryBoard.choose(), the path an
+  ** uninstrumented bestMove() takes, and records how long that took
+  ** and what the search did. The SearchEvent is filled in only if a
+  ** recording wants it. */
+  static int bestMove(BinaryBoard board, boolean useTable) {
+    SearchEvent event = new SearchEvent();
+    Search search = new Search();
+    event.begin();
+    long start = System.nanoTime();
+    int move = board.choose(useTable, search);
+    long nanos = System.nanoTime() - start;
+    if (search.nodes == 0) {                                          // A search visits the top position at least,
+      search = null;                                                  // so this was a table lookup
+    }
+    event.end();
+    METRICS.record(search, nanos);
+    if (event.shouldCommit()) {
+      event.state = board.state;
+      event.turn = board.turn;
+      event.move = move;
+      event.table = search == null;
+      if (search != null) {
+        event.nodes = search.nodes;
+        event.xWins = search.xWins;
+        event.oWins = search.oWins;
+        event.draws = search.draws;
+        event.cutoffs = search.cutoffs;
+        event.maxDepth = search.maxDepth;
+      }
+      event.commit();
+    }
+    return move;
+  }
+
+
+  void record(Search search, long nanos) {                            // Adds one call to the totals
+    calls.increment();
+    totalNanos.add(nanos);
+    latency.incrementAndGet(bucket(nanos));
+    if (search == null) {
+      tableHits.increment();
+      nodeCounts.incrementAndGet(0);
+      return;
+    }
+    nodes.add(search.nodes);
+    xWins.add(search.xWins);
+    oWins.add(search.oWins);
+    draws.add(search.draws);
+    cutoffs.add(search.cutoffs);
+    maxDepth.accumulateAndGet(search.maxDepth, Math::max);
+    nodeCounts.incrementAndGet(bucket(search.nodes));
+  }
+
+
+  static int bucket(long value) {                                     // Number of bits needed to write value
+    return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+  }
+
+
+  static long[] snapshot(AtomicLongArray histogram) {
+    long[] counts = new long[histogram.length()];
+    for (int b = 0; b < counts.length; b++) {
+      counts[b] = histogram.get(b);
+    }
+    return counts;
+  }
+
+
+  double percentileMicros(double fraction) {                          // Upper bound of the bucket holding the call
+    return percentileMicros(snapshot(latency), fraction);             // at fraction of the way through
+  }
+
+
+  static double percentileMicros(long[] counts, double fraction) {    // Same for any histogram of nanoseconds
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    long rank = (long) Math.ceil(fraction * total);
+    long seen = 0;
+    for (int b = 0; b < counts.length; b++) {
+      seen += counts[b];
+      if (seen >= rank && seen > 0) {
+        return (1L << b) / 1000.0;
+      }
+    }
+    return 0;
+  }
+
+
+  @Override
+  public long getCalls() {
+    return calls.sum();
+  }
+
+
+  @Override
+  public long getTableHits() {
+    return tableHits.sum();
+  }
+
+
+  @Override
+  public long getNodes() {
+    return nodes.sum();
+  }
+
+
+  @Override
+  public long getXWins() {
+    return xWins.sum();
+  }
+
+
+  @Override
+  public long getOWins() {
+    return oWins.sum();
+  }
+
+
+  @Override
+  public long getDraws() {
+    return draws.sum();
+  }
+
+
+  @Override
+  public long getCutoffs() {
+    return cutoffs.sum();
+  }
+
+
+  @Override
+  public int getMaxDepth() {
+    return maxDepth.get();
+  }
+
+
+  @Override
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+
+  @Override
+  public long[] getLatencyHistogram() {
+    return snapshot(latency);
+  }
+
+
+  @Override
+  public long[] getNodeHistogram() {
+    return snapshot(nodeCounts);
+  }
+
+
+  @Override
+  public double getLatencyP50Micros() {
+    return percentileMicros(0.5);
+  }
+
+
+  @Override
+  public double getLatencyP99Micros() {
+    return percentileMicros(0.99);
+  }
+
+
+  @Override
+  public void reset() {
+    for (LongAdder adder : new LongAdder[] { calls, tableHits, nodes, xWins,
+        oWins, draws, cutoffs, totalNanos }) {
+      adder.reset();
+    }
+    maxDepth.set(0);
+    for (int b = 0; b < BUCKETS; b++) {
+      latency.set(b, 0);
+      nodeCounts.set(b, 0);
+    }
+  }
+
+
+  public String report() {                                            // One line summary of the totals
+    return String.format("SearchMetrics: %d calls (%d from the table), "
+        + "%d nodes, %d cutoffs, depth %d, p50 %.1f us, p99 %.1f us",
+        getCalls(), getTableHits(), getNodes(), getCutoffs(),
+        getMaxDepth(), getLatencyP50Micros(), getLatencyP99Micros());
+  }
+}
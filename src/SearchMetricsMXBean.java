@@ -0,0 +1,45 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: SearchMetricsMXBean.java contains the management interface of SearchMetrics, registered with   **
+********************** the platform MBean server as ttt:type=SearchMetrics while instrumentation is enabled (visible  **
+********************** in JConsole or JDK Mission Control). Totals cover every BinaryBoard.bestMove() call since the  **
+********************** last reset. Each histogram has one bucket per power of 2: bucket b counts the calls with a     **
+********************** value v where 2^(b-1) <= v < 2^b (bucket 0 counts v = 0).                                      **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) SearchMetricsMXBean Attributes and operations exposed over JMX.                                                 **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+public interface SearchMetricsMXBean {
+
+  long getCalls();                                                    // bestMove() calls recorded
+
+  long getTableHits();                                                // Calls answered by PerfectPlayTable
+
+  long getNodes();                                                    // Positions visited by searches
+
+  long getXWins();                                                    // Positions reached that x had won
+
+  long getOWins();                                                    // Positions reached that o had won
+
+  long getDraws();                                                    // Full boards reached with no winner
+
+  long getCutoffs();                                                  // Searches cut short by α >= β
+
+  int getMaxDepth();                                                  // Deepest ply any search reached
+
+  long getTotalNanos();                                               // Wall time of every call added up
+
+  long[] getLatencyHistogram();                                       // Calls by wall time in nanoseconds
+
+  long[] getNodeHistogram();                                          // Calls by positions visited
+
+  double getLatencyP50Micros();                                       // Upper bound of the median call's bucket
+
+  double getLatencyP99Micros();                                       // Upper bound of the 99th percentile's bucket
+
+  void reset();                                                       // Sets every total and histogram back to 0
+}
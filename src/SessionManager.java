@@ -0,0 +1,398 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: SessionManager.java keeps many games at once, each under its own game id. A game is only a     **
+********************** BinaryBoard state and a turn, so instead of one object per game every session is a single     **
+********************** long in one shared array:                                                                      **
+**********************                                                                                                **
+**********************      bits 63-32 | bits 31-27 | bits 26-20 | bit 19 | bit 18    | bits 17-0                   **
+**********************      generation | o's order  | x's order  | live   | o to move | BinaryBoard.state           **
+**********************                                                                                                **
+********************** plus an int holding the second the session was last used. A game id is the generation and the **
+********************** slot index (generation << 32 | slot), and the generation goes up every time a slot is freed,  **
+********************** so an id from an evicted or closed game never reaches the game that reuses its slot. Moves are **
+********************** lock-free: the slot's long is read, checked (right game, right player's turn, game not over,   **
+********************** position open) and swapped for the new one with a compare-and-set, retrying if another thread **
+********************** got there first. Only creating and freeing sessions take a lock, and the slots are split into  **
+********************** stripes, each with its own lock and stack of free slots, so those rarely wait on each other.   **
+********************** Sessions idle for longer than the TTL are freed by evictIdle(), and once every slot is taken   **
+********************** the least recently used session of one stripe is evicted to make room for a new one. A         **
+********************** player's order is the order they took their positions in: their k-th move (from 0) adds k!     **
+********************** times its rank among their positions once it is made, so x's five moves fit 7 bits, o's four   **
+********************** fit 5 and the whole game can be replayed from the slot's long. Given a GameLog, every game is  **
+********************** appended to it as the move that ends it is made, or as its session is closed or evicted if it  **
+********************** never ended, so the log is an audit trail of every game played (the append only copies the     **
+********************** record into a batch; GameLog's writer thread does the rest).                                   **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) SessionManager      Holds every session's packed board and last use, and the free slots of each stripe.         **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) SessionManager()    takes a capacity, a TTL in seconds and a GameLog (or none) and constructs an empty manager. **
+** 2) long create()       starts a new game (empty board, x to move) and returns its id.                              **
+** 3) int move()          takes an id, a move index and the player making it and returns the new state (or an error). **
+** 4) int reply()         takes an id and makes BinaryBoard.bestMove() for the player to move (or returns an error).  **
+** 5) BinaryBoard board() takes an id and returns a copy of its board (null if there is no such game).                **
+** 6) boolean close()     takes an id and frees its session.                                                          **
+** 7) int evictIdle()     frees every session unused for longer than the TTL and returns how many were freed.         **
+** 8) long record()       takes a slot's long and returns its game as a GameLog record.                               **
+** 9) int size()          returns the number of live sessions.                                                        **
+** 10) String report()    returns the live sessions, capacity and bytes per session.                                  **
+** 11) void main()        fills a manager and prints the heap used per live session.                                  **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+public class SessionManager {
+
+  public static final int NO_SESSION = -1;                            // Unknown, closed or evicted game id
+  public static final int WRONG_TURN = -2;                            // The other player is to move
+  public static final int OCCUPIED = -3;                              // Position already taken (or not 0 - 8)
+  public static final int GAME_OVER = -4;                             // Somebody won or the board is full
+  static final int STATE = (1 << 18) - 1;                             // BinaryBoard.state bits
+  static final int O_TO_MOVE = 1 << 18;                               // Set when o is to move
+  static final int LIVE = 1 << 19;                                    // Set while the slot holds a game
+  static final int X_ORDER = 20;                                      // Shift of the order x moved in (7 bits)
+  static final int O_ORDER = 27;                                      // Shift of the order o moved in (5 bits)
+  static final int[] FACTORIAL = { 1, 1, 2, 6, 24 };                  // Weight of a player's k-th move
+  static final int STRIPES = 64;                                      // Independent locks and free lists
+  static final int BYTES_PER_SESSION = 8 + 4 + 4;                     // Packed board, last use, free list entry
+
+  final AtomicLongArray slots;                                        // Packed board of every session
+  final AtomicIntegerArray touched;                                   // Second each session was last used
+  final int[][] free;                                                 // Free slots of each stripe (a stack)
+  final int[] freeCount;                                              // Number of free slots in each stripe
+  final int stripes;
+  final int perStripe;                                                // Slots in each stripe
+  final int ttl;                                                      // Seconds idle before a session is evicted
+  final LongSupplier clock;                                           // Current time in milliseconds
+  final long epoch;                                                   // Time the manager was created
+  final GameLog log;                                                  // Where finished games go (null for nowhere)
+
+
+  public SessionManager(int capacity, int ttlSeconds) {
+    this(capacity, ttlSeconds, null, System::currentTimeMillis);
+  }
+
+
+  public SessionManager(int capacity, int ttlSeconds, GameLog log) {
+    this(capacity, ttlSeconds, log, System::currentTimeMillis);
+  }
+
+
+  SessionManager(int capacity, int ttlSeconds, LongSupplier clock) {  // Tests pass their own clock
+    this(capacity, ttlSeconds, null, clock);
+  }
+
+
+  SessionManager(int capacity, int ttlSeconds, GameLog log,
+      LongSupplier clock) {
+    stripes = Math.max(1, Math.min(STRIPES, capacity / 64));
+    perStripe = (capacity + stripes - 1) / stripes;
+    slots = new AtomicLongArray(stripes * perStripe);
+    touched = new AtomicIntegerArray(stripes * perStripe);
+    free = new int[stripes][perStripe];
+    freeCount = new int[stripes];
+    for (int s = 0; s < stripes; s++) {
+      for (int k = 0; k < perStripe; k++) {                           // Lowest slot on top of the stack
+        free[s][k] = s * perStripe + perStripe - 1 - k;
+      }
+      freeCount[s] = perStripe;
+    }
+    this.ttl = ttlSeconds;
+    this.log = log;
+    this.clock = clock;
+    this.epoch = clock.getAsLong();
+  }
+
+
+  int now() {                                                         // Seconds since the manager was created
+    return (int) ((clock.getAsLong() - epoch) / 1000);
+  }
+
+
+  static long id(long word, int slot) {                               // Generation of the slot's game, then the slot
+    return word >>> 32 << 32 | slot;
+  }
+
+
+  /* Returns the slot's long if it still holds the game with this id, or
+  ** 0 (never a live session) if the id is malformed or out of date. */
+  long word(long id) {
+    int slot = (int) id;
+    if (id < 0 || slot < 0 || slot >= slots.length()) {
+      return 0;
+    }
+    long word = slots.get(slot);
+    if ((word & LIVE) == 0 || word >>> 32 != id >>> 32) {
+      return 0;
+    }
+    return word;
+  }
+
+
+  /* Starts a game in the first free slot found, looking in a random
+  ** stripe first and then in the stripes after it. Once every slot is
+  ** taken, the random stripe frees its idle sessions, or if there are
+  ** none its least recently used one, to make room. */
+  public long create() {
+    int first = ThreadLocalRandom.current().nextInt(stripes);
+    for (int k = 0; k < stripes; k++) {
+      int s = (first + k) % stripes;
+      synchronized (free[s]) {
+        if (freeCount[s] > 0) {
+          return take(s);
+        }
+      }
+    }
+    synchronized (free[first]) {
+      if (freeCount[first] == 0) {
+        evictIdle(first, now());
+      }
+      if (freeCount[first] == 0) {
+        evictLeastRecent(first);
+      }
+      return take(first);
+    }
+  }
+
+
+  private long take(int s) {                                          // Caller holds the stripe's lock
+    int slot = free[s][--freeCount[s]];
+    long word = slots.get(slot) | LIVE;                               // Freed slots hold only their generation
+    touched.set(slot, now());
+    slots.set(slot, word);                                            // Only this thread can write a free slot
+    return id(word, slot);
+  }
+
+
+  /* Makes move i for player (checking, as the buttons in Game do, that
+  ** it is that player's turn, the game is not over and the position is
+  ** open) and returns the new state, or one of the negative errors. The
+  ** move that ends the game appends it to the log, so this throws what
+  ** GameLog.append() throws once the log is closed or has failed. */
+  public int move(long id, int i, char player) {
+    int slot = (int) id;
+    while (true) {
+      long word = word(id);
+      if (word == 0) {
+        return NO_SESSION;
+      }
+      int state = (int) word & STATE;
+      boolean oToMove = (word & O_TO_MOVE) != 0;
+      if (oToMove != (player == 'o') || player != 'x' && player != 'o') {
+        return WRONG_TURN;
+      }
+      if (over(state)) {
+        return GAME_OVER;
+      }
+      if (i < 0 || i > 8 || ((state | state >>> 9) & 1 << i) != 0) {
+        return OCCUPIED;
+      }
+      int next = state + (oToMove ? 1 << i + 9 : 1 << i);
+      int mine = oToMove ? state >>> 9 : state & 511;                 // The mover's positions so far
+      long order = (long) Integer.bitCount(mine & (1 << i) - 1)
+          * FACTORIAL[Integer.bitCount(mine)] << (oToMove ? O_ORDER : X_ORDER);
+      long updated = (word & ~(long) STATE ^ O_TO_MOVE | next) + order;
+      touched.set(slot, now());                                       // Before the new word is seen, so a sweep that
+      if (slots.compareAndSet(slot, word, updated)) {                 // reads it never finds the session idle
+        if (log != null && over(next)) {                              // Only this move could end it
+          log.append(record(updated));
+        }
+        return next;
+      }                                                               // Lost a race: read the slot again
+    }
+  }
+
+
+  public int reply(long id) {                                         // Returns the move made (0 - 8) or an error
+    long word = word(id);
+    if (word == 0) {
+      return NO_SESSION;
+    }
+    int state = (int) word & STATE;
+    if (over(state)) {
+      return GAME_OVER;
+    }
+    char turn = (word & O_TO_MOVE) != 0 ? 'o' : 'x';
+    int best = new BinaryBoard(state, turn).bestMove();
+    int result = move(id, best, turn);                                // Fails if the board changed meanwhile
+    return result < 0 ? result : best;
+  }
+
+
+  public BinaryBoard board(long id) {                                 // Copy of the game's board, null if unknown
+    long word = word(id);
+    if (word == 0) {
+      return null;
+    }
+    touched.set((int) id, now());
+    return new BinaryBoard((int) word & STATE,
+        (word & O_TO_MOVE) != 0 ? 'o' : 'x');
+  }
+
+
+  public boolean close(long id) {                                     // Frees the game's slot
+    if (word(id) == 0) {
+      return false;
+    }
+    int slot = (int) id;
+    int s = slot / perStripe;
+    synchronized (free[s]) {
+      long word = word(id);                                           // Still the same game once locked?
+      return word != 0 && release(s, slot, word);
+    }
+  }
+
+
+  public int evictIdle() {                                            // Sweeps every stripe for idle sessions
+    int now = now();
+    int evicted = 0;
+    for (int s = 0; s < stripes; s++) {
+      synchronized (free[s]) {
+        evicted += evictIdle(s, now);
+      }
+    }
+    return evicted;
+  }
+
+
+  private int evictIdle(int s, int now) {                             // Caller holds the stripe's lock
+    int evicted = 0;
+    for (int slot = s * perStripe; slot < (s + 1) * perStripe; slot++) {
+      long word = slots.get(slot);
+      if ((word & LIVE) != 0 && now - touched.get(slot) > ttl
+          && release(s, slot, word)) {
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+
+  private void evictLeastRecent(int s) {                              // Caller holds the stripe's lock
+    while (true) {
+      int oldest = -1;
+      for (int slot = s * perStripe; slot < (s + 1) * perStripe; slot++) {
+        if ((slots.get(slot) & LIVE) != 0 && (oldest < 0
+            || touched.get(slot) < touched.get(oldest))) {
+          oldest = slot;
+        }
+      }
+      if (release(s, oldest, slots.get(oldest))) {                    // Retries if a move got in first
+        return;
+      }
+    }
+  }
+
+
+  /* Frees a live slot, as long as it still holds word: bumping the
+  ** generation (kept to 31 bits, so ids stay positive) and clearing the
+  ** live bit in one compare-and-set turns away every later move for the
+  ** old id. A game that never ended is logged here, unfinished. Caller
+  ** holds the stripe's lock. */
+  private boolean release(int s, int slot, long word) {
+    long generation = (word >>> 32) + 1 & Integer.MAX_VALUE;
+    if (!slots.compareAndSet(slot, word, generation << 32)) {
+      return false;
+    }
+    free[s][freeCount[s]++] = slot;
+    if (log != null && !over((int) word & STATE)) {                   // A finished game was logged by its last move
+      log.append(record(word));
+    }
+    return true;
+  }
+
+
+  /* Replays the order each player moved in, from their last move back:
+  ** the k-th move is the rank-th lowest of the positions the player
+  ** held once it was made, and x and o take turns from x. */
+  public static long record(long word) {
+    int state = (int) word & STATE;
+    int[] moves = new int[9];
+    for (int p = 0; p < 2; p++) {
+      int held = p == 0 ? state & 511 : state >>> 9;
+      int order = p == 0 ? (int) (word >>> X_ORDER) & 127
+          : (int) (word >>> O_ORDER) & 31;
+      for (int k = Integer.bitCount(held) - 1; k >= 0; k--) {
+        int at = held;
+        for (int r = order / FACTORIAL[k] % (k + 1); r > 0; r--) {
+          at &= at - 1;                                               // Drops the lowest position held
+        }
+        moves[2 * k + p] = Integer.numberOfTrailingZeros(at);
+        held &= ~Integer.lowestOneBit(at);
+      }
+    }
+    return GameLog.record(moves, Integer.bitCount(state));
+  }
+
+
+  static boolean over(int state) {                                    // Same test as BinaryBoard.gameEnd()
+    return Search.win(state) || Search.win(state >>> 9)
+        || Integer.bitCount(state) == 9;
+  }
+
+
+  public int size() {                                                 // Live sessions (a snapshot while others run)
+    int live = 0;
+    for (int s = 0; s < stripes; s++) {
+      synchronized (free[s]) {
+        live += perStripe - freeCount[s];
+      }
+    }
+    return live;
+  }
+
+
+  public int capacity() {
+    return stripes * perStripe;
+  }
+
+
+  public String report() {                                            // Sessions held and what each one costs
+    return String.format("SessionManager: %d of %d sessions live, "
+        + "%d bytes per session, %d KB in all", size(), capacity(),
+        BYTES_PER_SESSION, (long) capacity() * BYTES_PER_SESSION / 1024);
+  }
+
+
+  /* Fills a manager with a million games, a few moves into each, and
+  ** prints the heap that took per live session, measured the same way
+  ** for one BinaryBoard (the board a Game holds) per session for
+  ** comparison. */
+  public static void main(String[] args) {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+    long before = usedHeap();
+    SessionManager sessions = new SessionManager(count, 600);
+    for (int g = 0; g < count; g++) {
+      long id = sessions.create();
+      sessions.move(id, g % 9, 'x');
+      sessions.move(id, (g + 1) % 9, 'o');
+    }
+    long packed = usedHeap() - before;
+    System.out.println(sessions.report());
+    before = usedHeap();
+    BinaryBoard[] boards = new BinaryBoard[count];
+    for (int g = 0; g < count; g++) {
+      boards[g] = new BinaryBoard().move(g % 9).move((g + 1) % 9);
+    }
+    long objects = usedHeap() - before;
+    System.out.println(String.format("heap per live session: %.1f bytes "
+        + "packed, %.1f bytes as BinaryBoard objects (%d sessions)",
+        packed / (double) count, objects / (double) boards.length,
+        sessions.size()));
+  }
+
+
+  static long usedHeap() {                                            // Heap in use after a full collection
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,106 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: Symmetry.java contains the 8 rotations and reflections of the 3x3 board (the D4 symmetry       **
+********************** group). Two boards that are rotations or reflections of each other have the same heuristic     **
+********************** score, and the best move of one is the rotated or reflected best move of the other. Each of    **
+********************** the 8 transforms is stored as a permutation of the 9 board indexes:                            **
+**********************                                                                                                **
+**********************           0 | 1 | 2        rotated 90   6 | 3 | 0        mirrored  2 | 1 | 0                   **
+**********************          ---+---+---       clockwise   ---+---+---       left to  ---+---+---                  **
+**********************           3 | 4 | 5        ========>    7 | 4 | 1        right    5 | 4 | 3                    **
+**********************          ---+---+---                   ---+---+---       =====>  ---+---+---                   **
+**********************           6 | 7 | 8                     8 | 5 | 2                 8 | 7 | 6                    **
+**********************                                                                                                **
+********************** and every 9 bit half of a state (x's or o's positions) is mapped through precomputed tables so **
+********************** transforming a state is two array reads. The canonical form of a state is the smallest value  **
+********************** among its 8 transforms.                                                                        **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) Symmetry            Static tables and helpers only, never instantiated.                                         **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) int transform()     takes a state and a transform and returns the transformed state.                            **
+** 2) int canonical()     takes a state and returns its canonical state packed with the transform that produced it.   **
+** 3) int move()          takes a move index and a transform and returns the transformed move index.                  **
+** 4) int inverse()       takes a transform and returns the transform that undoes it.                                 **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+public final class Symmetry {
+
+  public static final int COUNT = 8;                                  // Size of the D4 group (4 rotations, 4 mirrors)
+  static final int[][] SQUARES = new int[COUNT][9];                   // Index i is moved to SQUARES[t][i]
+  static final int[][] MASKS = new int[COUNT][512];                   // Transformed value of each 9 bit half
+  static final int[] INVERSE = new int[COUNT];                        // Transform that undoes each transform
+
+  static {
+    for (int i = 0; i < 9; i++) {
+      int r = i / 3;                                                  // Row and column of index i
+      int c = i % 3;
+      SQUARES[0][i] = 3 * r + c;                                      // identity
+      SQUARES[1][i] = 3 * c + (2 - r);                                // rotated 90 degrees clockwise
+      SQUARES[2][i] = 3 * (2 - r) + (2 - c);                          // rotated 180 degrees
+      SQUARES[3][i] = 3 * (2 - c) + r;                                // rotated 270 degrees clockwise
+      SQUARES[4][i] = 3 * r + (2 - c);                                // mirrored left to right
+      SQUARES[5][i] = 3 * (2 - r) + c;                                // mirrored top to bottom
+      SQUARES[6][i] = 3 * c + r;                                      // mirrored on the 0-4-8 diagonal
+      SQUARES[7][i] = 3 * (2 - c) + (2 - r);                          // mirrored on the 2-4-6 diagonal
+    }
+    for (int t = 0; t < COUNT; t++) {
+      for (int m = 0; m < 512; m++) {                                 // Move each set bit of m to its new index
+        for (int i = 0; i < 9; i++) {
+          if ((m & (1 << i)) != 0) {
+            MASKS[t][m] |= 1 << SQUARES[t][i];
+          }
+        }
+      }
+      for (int u = 0; u < COUNT; u++) {                               // The inverse sends every index back to itself
+        boolean undoes = true;
+        for (int i = 0; i < 9; i++) {
+          undoes &= SQUARES[u][SQUARES[t][i]] == i;
+        }
+        if (undoes) {
+          INVERSE[t] = u;
+        }
+      }
+    }
+  }
+
+
+  private Symmetry() {                                                // Static tables only
+  }
+
+
+  public static int transform(int state, int t) {                     // Transforms x's half and o's half separately
+    return MASKS[t][state & 511] | MASKS[t][state >>> 9 & 511] << 9;
+  }
+
+
+  /* Returns the smallest of the 8 transforms of state, shifted left 3
+  ** bits, with the index of the transform that produced it in the low
+  ** 3 bits:  canonical >>> 3 is the canonical state, canonical & 7 is
+  ** the transform. */
+  public static int canonical(int state) {
+    int best = state;
+    int bestT = 0;
+    for (int t = 1; t < COUNT; t++) {
+      int s = transform(state, t);
+      if (s < best) {
+        best = s;
+        bestT = t;
+      }
+    }
+    return best << 3 | bestT;
+  }
+
+
+  public static int move(int move, int t) {                           // Where move index ends up under transform t
+    return SQUARES[t][move];
+  }
+
+
+  public static int inverse(int t) {                                  // Transform that undoes transform t
+    return INVERSE[t];
+  }
+}
@@ -0,0 +1,301 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: Tablebase.java contains a solved table of every position of an m,n,k game on up to 16         **
+********************** positions (4,4,4 by default, 3^16 = 43,046,721 positions), generated once offline and mapped   **
+********************** from disk at run time. Positions are numbered by base-3 index like BoardTables.index(): digit  **
+********************** i is 0 for an open position i, 1 for x and 2 for o. Playing a move only adds a digit, so every **
+********************** position's index is lower than the index of every position one move later, and generate()     **
+********************** solves them backwards (retrograde) by walking the indexes from the top down: full boards and   **
+********************** won positions are scored directly and every other position from the positions one move on,    **
+********************** which are already solved. The player to move follows from the counts (x moves first), and     **
+********************** indexes with impossible counts are skipped. While solving, a win in d moves scores 100 - d, a  **
+********************** loss -(100 - d), and a draw 0, so the best move is the quickest win or the slowest loss, the   **
+********************** lowest index among equals. That is not BinaryBoard.bestMove()'s rule: it scores every forced   **
+********************** win alike and takes the lowest index among them, so on 3,3,3 the two agree on every outcome    **
+********************** but not on every move (a win now and a win later can score the same there, and the later one   **
+********************** can have the lower index).                                                                     **
+**********************                                                                                                **
+********************** The file holds a HEADER byte header (magic number, m, n, k, number of entries) and then one    **
+********************** byte per index:                                                                                **
+**********************                                                                                                **
+**********************    bit 7: no such position, bit 6: game over, bits 4-5: LOSS / DRAW / WIN, bits 0-3: move      **
+**********************                                                                                                **
+********************** (for the player to move). open() maps it read only with a MappedByteBuffer, so a lookup is a   **
+********************** single byte read from the page cache, nothing is copied onto the heap and opening it costs the **
+********************** same however large it is. verify() plays random games and checks sampled positions against a  **
+********************** search to the end with MnkSearch.                                                              **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) Tablebase           Holds the mapped file and the board size it was generated for.                              **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) void generate()     takes m, n, k and a file, solves every position and writes the file.                        **
+** 2) Tablebase open()    takes a file and maps it.                                                                   **
+** 3) boolean contains()  takes a board and returns whether the table holds its position.                             **
+** 4) int score()         takes a board and returns 1, 0 or -1 as the player to move wins, draws or loses.            **
+** 5) int bestMove()      takes a board and returns the stored best move (-1 if the game is over).                    **
+** 6) int verify()        takes a number of samples and a seed and returns how many disagree with a live search.      **
+** 7) void main()         generates (generate file [m n k]) or verifies (verify file [samples]) a tablebase.          **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+public class Tablebase {
+
+  static final int MAGIC = 0x74746231;                                // "ttb1"
+  static final int HEADER = 16;                                       // Magic, m, n, k, unused, entries, unused
+  static final int MAX_CELLS = 16;                                    // 3^16 entries still fit an int index
+  static final int NONE = 0x80;                                       // Index with impossible counts
+  static final int END = 0x40;                                        // Game over, no move
+  static final int LOSS = 0;                                          // Outcome for the player to move (bits 4-5)
+  static final int DRAW = 1;
+  static final int WIN = 2;
+  static final int[] POW3 = new int[MAX_CELLS + 1];                   // 3^i
+  static final int[] BASE3 = new int[256];                            // Base-3 value of 8 positions' bits
+
+  static {
+    POW3[0] = 1;
+    for (int i = 1; i <= MAX_CELLS; i++) {
+      POW3[i] = 3 * POW3[i - 1];
+    }
+    for (int bits = 0; bits < 256; bits++) {
+      for (int i = 0; i < 8; i++) {
+        BASE3[bits] += (bits >>> i & 1) * POW3[i];
+      }
+    }
+  }
+
+  public final int m;
+  public final int n;
+  public final int k;
+  final MappedByteBuffer entries;                                     // Header, then one byte per index
+
+
+  private Tablebase(int m, int n, int k, MappedByteBuffer entries) {
+    this.m = m;
+    this.n = n;
+    this.k = k;
+    this.entries = entries;
+  }
+
+
+  static int index(int x, int o) {                                    // Base-3 index of x's and o's position bits
+    return BASE3[x & 255] + POW3[8] * BASE3[x >>> 8 & 255]
+        + 2 * (BASE3[o & 255] + POW3[8] * BASE3[o >>> 8 & 255]);
+  }
+
+
+  /* Solves every position of the m,n,k game and writes the table to
+  ** file, one byte per base-3 index (see above). Positions one move on
+  ** always have higher indexes, so walking down from the highest index
+  ** finds them solved. The low 8 positions' digits come from a table
+  ** and the rest from the outer loop, so no index is divided up. */
+  public static void generate(int m, int n, int k, Path file)
+      throws IOException {
+    MnkBoard empty = new MnkBoard(m, n, k);                           // Checks m, n and k, generates the lines
+    int cells = empty.cells;
+    if (cells > MAX_CELLS) {
+      throw new IllegalArgumentException(m + "x" + n + " has more than "
+          + MAX_CELLS + " positions");
+    }
+    long[] wins = new long[Math.max(1, (1 << cells) / 64)];           // Bit per position mask holding a line
+    for (long[] line : empty.lines) {
+      int mask = (int) line[0];
+      for (int bits = 0; bits < 1 << cells; bits++) {
+        if ((bits & mask) == mask) {
+          wins[bits >>> 6] |= 1L << bits;
+        }
+      }
+    }
+    int lowCells = Math.min(8, cells);
+    int low = POW3[lowCells];
+    int[] lowX = new int[low];                                        // Position bits of each low index
+    int[] lowO = new int[low];
+    for (int i = 0; i < low; i++) {
+      for (int c = 0, rest = i; c < lowCells; c++, rest /= 3) {
+        lowX[i] |= (rest % 3 == 1 ? 1 : 0) << c;
+        lowO[i] |= (rest % 3 == 2 ? 1 : 0) << c;
+      }
+    }
+    int size = POW3[cells];
+    int full = (1 << cells) - 1;
+    byte[] values = new byte[size];                                   // 100 - d, -(100 - d) or 0 while solving
+    try (FileChannel channel = FileChannel.open(file,
+        StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+          HEADER + size);
+      out.putInt(MAGIC).put((byte) m).put((byte) n).put((byte) k)
+          .put((byte) 0).putInt(size).putInt(0);
+      for (int high = size / low - 1; high >= 0; high--) {
+        int highX = 0;
+        int highO = 0;
+        for (int c = lowCells, rest = high; c < cells; c++, rest /= 3) {
+          highX |= (rest % 3 == 1 ? 1 : 0) << c;
+          highO |= (rest % 3 == 2 ? 1 : 0) << c;
+        }
+        for (int l = low - 1; l >= 0; l--) {
+          int index = high * low + l;
+          int x = highX | lowX[l];
+          int o = highO | lowO[l];
+          int xs = Integer.bitCount(x);
+          int os = Integer.bitCount(o);
+          boolean xTurn = xs == os;
+          int entry;
+          if (!xTurn && xs != os + 1) {                               // Not a position x moving first can reach
+            entry = NONE;
+          } else if ((wins[x >>> 6] >>> x & 1) != 0
+              || (wins[o >>> 6] >>> o & 1) != 0) {                    // Won by the player who just moved
+            boolean mine = (wins[(xTurn ? x : o) >>> 6]
+                >>> (xTurn ? x : o) & 1) != 0;                        // (or, on an impossible board, both)
+            values[index] = (byte) (mine ? 100 : -100);
+            entry = END | (mine ? WIN : LOSS) << 4;
+          } else if (xs + os == cells) {
+            entry = END | DRAW << 4;
+          } else {
+            int add = xTurn ? 1 : 2;                                  // Digit of the player to move
+            int open = ~(x | o) & full;
+            int best = Integer.MIN_VALUE;
+            int move = -1;
+            for (int c = 0; c < cells; c++) {
+              if ((open >>> c & 1) != 0) {
+                int child = values[index + add * POW3[c]];
+                int value = child > 0 ? 1 - child : child < 0 ? -child - 1 : 0;  // One move further off
+                if (value > best) {
+                  best = value;
+                  move = c;
+                }
+              }
+            }
+            values[index] = (byte) best;
+            entry = (best > 0 ? WIN : best < 0 ? LOSS : DRAW) << 4 | move;
+          }
+          out.put(HEADER + index, (byte) entry);
+        }
+      }
+      out.force();
+    }
+  }
+
+
+  public static Tablebase open(Path file) throws IOException {        // Maps file, checking its header
+    try (FileChannel channel = FileChannel.open(file,
+        StandardOpenOption.READ)) {
+      MappedByteBuffer entries = channel.map(FileChannel.MapMode.READ_ONLY,
+          0, channel.size());                                         // The mapping outlives the channel
+      if (channel.size() < HEADER || entries.getInt(0) != MAGIC) {
+        throw new IOException(file + " is not a tablebase");
+      }
+      int m = entries.get(4);
+      int n = entries.get(5);
+      int k = entries.get(6);
+      if (m < 1 || n < 1 || m * n > MAX_CELLS || k < 1                // A header no generate() writes
+          || k > Math.max(m, n)) {
+        throw new IOException(file + " has a bad header (" + m + ","
+            + n + "," + k + ")");
+      }
+      if (entries.getInt(8) != POW3[m * n]
+          || channel.size() != HEADER + (long) POW3[m * n]) {
+        throw new IOException(file + " is truncated");
+      }
+      return new Tablebase(m, n, k, entries);
+    }
+  }
+
+
+  private int entry(MnkBoard board) {                                 // Stored byte for board's position
+    return entries.get(HEADER + index((int) board.x[0], (int) board.o[0]))
+        & 255;
+  }
+
+
+  public boolean contains(MnkBoard board) {                           // Same game, and a position x moving first
+    return board.m == m && board.n == n && board.k == k               // can reach with board's player to move
+        && (entry(board) & NONE) == 0
+        && board.turn == (board.stones % 2 == 0 ? 'x' : 'o');
+  }
+
+
+  public int score(MnkBoard board) {                                  // 1 win, 0 draw, -1 loss for the player to move
+    return (entry(board) >>> 4 & 3) - DRAW;
+  }
+
+
+  public int bestMove(MnkBoard board) {
+    int entry = entry(board);
+    return (entry & END) != 0 ? -1 : entry & 15;
+  }
+
+
+  /* Plays random games and, at a random point of each, compares the
+  ** stored score with MnkSearch's search to the end, and checks that the
+  ** stored move keeps that score. Samples start after at least half the
+  ** board has been played (cells / 2 moves), so every search finishes
+  ** quickly. Returns the number of samples that disagree. */
+  public int verify(int samples, long seed) {
+    Random random = new Random(seed);
+    MnkSearch search = new MnkSearch(20);
+    int cells = m * n;
+    int wrong = 0;
+    for (int s = 0; s < samples; s++) {
+      MnkBoard board = new MnkBoard(m, n, k);
+      int moves = cells / 2 + random.nextInt(cells - cells / 2 + 1);
+      while (board.stones < moves && !board.gameEnd()) {
+        int cell = random.nextInt(cells);
+        if (!board.occupied(cell)) {
+          board.play(cell);
+        }
+      }
+      int live;
+      if (board.winner != 0) {
+        live = board.winner == board.turn ? 1 : -1;
+      } else if (board.gameEnd()) {
+        live = 0;
+      } else {
+        search.bestMove(board, Integer.MAX_VALUE, 0);
+        live = search.score > MnkSearch.PROVEN ? 1
+            : search.score < -MnkSearch.PROVEN ? -1 : 0;
+      }
+      int move = bestMove(board);
+      if (!contains(board) || score(board) != live
+          || move >= 0 && (board.occupied(move)
+          || -score(board.move(move)) != live)) {
+        wrong++;
+      }
+    }
+    return wrong;
+  }
+
+
+  /* generate file [m n k]   solves the game (4,4,4 by default)
+  ** verify file [samples]   checks samples (1,000 by default) */
+  public static void main(String[] args) throws IOException {
+    Path file = Paths.get(args.length > 1 ? args[1] : "tablebase-4x4.bin");
+    if (args.length > 0 && args[0].equals("verify")) {
+      long start = System.nanoTime();
+      Tablebase tablebase = open(file);
+      System.out.println(String.format("opened %d,%d,%d in %.1f ms",
+          tablebase.m, tablebase.n, tablebase.k,
+          (System.nanoTime() - start) / 1e6));
+      int samples = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+      System.out.println(tablebase.verify(samples, System.nanoTime())
+          + " of " + samples + " samples disagree with search");
+      return;
+    }
+    int m = args.length > 4 ? Integer.parseInt(args[2]) : 4;
+    int n = args.length > 4 ? Integer.parseInt(args[3]) : 4;
+    int k = args.length > 4 ? Integer.parseInt(args[4]) : 4;
+    long start = System.nanoTime();
+    generate(m, n, k, file);
+    System.out.println(String.format("%d,%d,%d: %d entries in %.1f s",
+        m, n, k, POW3[m * n], (System.nanoTime() - start) / 1e9));
+  }
+}
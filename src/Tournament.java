@@ -0,0 +1,276 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: Tournament.java contains a headless self-play simulator: two Agents play any number of games   **
+********************** of tic tac toe against each other (x always the first agent) on a pool of threads, one per     **
+********************** core by default, with no Swing window involved. Threads claim games CHUNK at a time from a     **
+********************** shared counter and keep their own counts and latency histograms, added to the totals once at   **
+********************** the end, so the games themselves never wait on each other. Each game can be written to a CSV   **
+********************** file as it finishes, one short line per game:                                                  **
+**********************                                                                                                **
+**********************      game,winner,moves                                                                         **
+**********************      0,x,4015263                  (game number, x, o or - for a draw, positions in order)      **
+**********************                                                                                                **
+********************** Lines are buffered per thread and written FLUSH characters at a time, so nothing is kept per   **
+********************** game and memory stays flat however many games are played (lines come out in chunks, not in     **
+********************** game order). Every move an agent makes is checked to be an open position, and timed into a     **
+********************** per-player histogram of powers of 2 of nanoseconds, as in SearchMetrics. report() gives games  **
+********************** and moves per second, win, loss and draw rates and each player's latency percentiles, so the   **
+********************** same run is a load benchmark. It is also a check that perfect play never loses: a game MINIMAX **
+********************** loses, in either seat, stops the run with an IllegalStateException (and main() with it,        **
+********************** exiting non-zero).                                                                             **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) Tournament          Holds the two agents, the thread count and the totals of the last play().                   **
+** 2) Worker              Holds one thread's counts, histograms and CSV buffer.                                       **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) Tournament()        takes the agent playing x, the agent playing o and the number of threads.                   **
+** 2) void play()         takes a number of games and a Writer for the CSV (or null) and plays them.                  **
+** 3) double percentile() takes a player and a fraction and returns that percentile of their move times.          **
+** 4) String report()     returns the totals, rates and latency percentiles of the last play().                       **
+** 5) void main()         plays agents named on the command line (x o games [threads] [file.csv]) and prints the      **
+**                        report.                                                                                     **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class Tournament {
+
+  static final int CHUNK = 256;                                       // Games a thread claims at a time
+  static final int FLUSH = 1 << 16;                                   // CSV characters a thread buffers per write
+  static final String HEADER = "game,winner,moves\n";
+
+  public final Agent x;                                               // Plays first in every game
+  public final Agent o;
+  public final int threads;
+  public long games;                                                  // Games played by the last play()
+  public long xWins;
+  public long oWins;
+  public long draws;
+  public long moves;                                                  // Moves made, by both players
+  public long nanos;                                                  // Wall time of the last play()
+  final long[][] latency = new long[2][SearchMetrics.BUCKETS];        // x's and o's moves by nanoseconds taken
+  Agent unbeaten = Agent.MINIMAX;                                     // Losing a game with it fails the run (tests
+                                                                      // swap in an agent that can lose)
+
+
+  public Tournament(Agent x, Agent o, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be at least 1");
+    }
+    this.x = x;
+    this.o = o;
+    this.threads = threads;
+  }
+
+
+  /* Plays the games on a new pool of threads and waits for every one to
+  ** finish. An agent's exception (or an invalid move or a game lost by
+  ** MINIMAX, reported as an IllegalStateException) stops the threads
+  ** and is rethrown here, as is a failure to write the CSV. */
+  public void play(long count, Writer csv)
+      throws IOException, InterruptedException {
+    games = xWins = oWins = draws = moves = 0;
+    for (long[] histogram : latency) {
+      Arrays.fill(histogram, 0);
+    }
+    if (csv != null) {
+      csv.write(HEADER);
+    }
+    AtomicLong next = new AtomicLong();
+    long start = System.nanoTime();
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> running = new ArrayList<Future<?>>();
+      for (int t = 0; t < threads; t++) {
+        Worker worker = new Worker(count, next, csv);
+        running.add(pool.submit(worker::run));
+      }
+      for (Future<?> future : running) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      next.set(count);                                                // The other threads claim nothing more
+      Throwable cause = e.getCause();
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw (Error) cause;
+    } finally {
+      pool.shutdownNow();
+      nanos = System.nanoTime() - start;
+    }
+    if (csv != null) {
+      csv.flush();
+    }
+  }
+
+
+  private synchronized void add(Worker worker) {                      // Adds one thread's counts to the totals
+    games += worker.games;
+    xWins += worker.xWins;
+    oWins += worker.oWins;
+    draws += worker.draws;
+    moves += worker.moves;
+    for (int p = 0; p < 2; p++) {
+      for (int b = 0; b < SearchMetrics.BUCKETS; b++) {
+        latency[p][b] += worker.latency[p][b];
+      }
+    }
+  }
+
+
+  public double percentile(char player, double fraction) {            // Upper bound of the bucket holding the move
+    return SearchMetrics.percentileMicros(                            // at fraction of the way through
+        latency[player == 'x' ? 0 : 1], fraction);
+  }
+
+
+  public String report() {
+    double seconds = nanos / 1e9;
+    double percent = games == 0 ? 0 : 100.0 / games;
+    return String.format("Tournament: %d games in %.2f s on %d threads "
+        + "(%.0f games/s, %.0f moves/s), x won %.2f%%, o won %.2f%%, "
+        + "drawn %.2f%%, x p50/p99/p99.9 %.1f/%.1f/%.1f us, "
+        + "o p50/p99/p99.9 %.1f/%.1f/%.1f us",
+        games, seconds, threads, games / seconds, moves / seconds,
+        xWins * percent, oWins * percent, draws * percent,
+        percentile('x', 0.5), percentile('x', 0.99),
+        percentile('x', 0.999), percentile('o', 0.5),
+        percentile('o', 0.99), percentile('o', 0.999));
+  }
+
+
+  public static void main(String[] args)
+      throws IOException, InterruptedException {
+    Agent x = Agent.forName(args.length > 0 ? args[0] : "minimax");
+    Agent o = Agent.forName(args.length > 1 ? args[1] : "random");
+    long count = args.length > 2 ? Long.parseLong(args[2]) : 1000000;
+    int threads = args.length > 3 ? Integer.parseInt(args[3])
+        : Runtime.getRuntime().availableProcessors();
+    PerfectPlayTable.get();                                           // Built before the clock starts
+    Tournament tournament = new Tournament(x, o, threads);
+    if (args.length > 4) {
+      try (Writer csv = new BufferedWriter(new FileWriter(args[4]))) {
+        tournament.play(count, csv);
+      }
+    } else {
+      tournament.play(count, null);
+    }
+    System.out.println(tournament.report());
+  }
+
+
+  private class Worker {
+
+    final long count;                                                 // Games in the whole tournament
+    final AtomicLong next;                                            // Next game no thread has claimed
+    final Writer csv;
+    final StringBuilder out = new StringBuilder(FLUSH + 64);
+    final long[][] latency = new long[2][SearchMetrics.BUCKETS];
+    long games;
+    long xWins;
+    long oWins;
+    long draws;
+    long moves;
+
+
+    Worker(long count, AtomicLong next, Writer csv) {
+      this.count = count;
+      this.next = next;
+      this.csv = csv;
+    }
+
+
+    void run() {                                                      // Plays chunks until every game is claimed
+      long first;
+      while ((first = next.getAndAdd(CHUNK)) < count) {
+        long last = Math.min(count, first + CHUNK);
+        for (long game = first; game < last; game++) {
+          play(game);
+        }
+        if (out.length() >= FLUSH) {
+          flush();
+        }
+      }
+      flush();
+      add(this);
+    }
+
+
+    private void play(long game) {                                    // One game, x first, appended to out
+      BinaryBoard board = new BinaryBoard();
+      int line = out.length();
+      if (csv != null) {
+        out.append(game).append(",-,");
+      }
+      while (!board.gameEnd()) {
+        int player = board.turn == 'x' ? 0 : 1;
+        long start = System.nanoTime();
+        int move = (player == 0 ? x : o).move(board);
+        latency[player][SearchMetrics.bucket(System.nanoTime() - start)]++;
+        if (move < 0 || move > 8 || (board.possibleMoves() >>> move & 1) == 0) {
+          throw new IllegalStateException(board.turn + " played " + move
+              + " in game " + game + " (state " + board.state + ")");
+        }
+        board = board.move(move);
+        moves++;
+        if (csv != null) {
+          out.append((char) ('0' + move));
+        }
+      }
+      games++;
+      char winner = '-';
+      if (board.win('x')) {
+        winner = 'x';
+        xWins++;
+      } else if (board.win('o')) {
+        winner = 'o';
+        oWins++;
+      } else {
+        draws++;
+      }
+      if (csv != null) {
+        out.setCharAt(out.indexOf(",", line) + 1, winner);
+        out.append('\n');
+      }
+      if (winner != '-' && (winner == 'x' ? o : x) == unbeaten) {
+        throw new IllegalStateException("perfect play (" + (winner == 'x'
+            ? 'o' : 'x') + ") lost game " + game + " (state " + board.state
+            + ")");
+      }
+    }
+
+
+    private void flush() {                                            // Writes out in one call, under the Writer's
+      if (csv == null || out.length() == 0) {                         // lock
+        return;
+      }
+      try {
+        synchronized (csv) {
+          csv.append(out);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      out.setLength(0);
+    }
+  }
+}
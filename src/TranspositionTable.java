@@ -0,0 +1,86 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: TranspositionTable.java contains a cache of searched positions for Search. Positions are keyed **
+********************** on their canonical state (see Symmetry.java) and turn, so a position reached through a        **
+********************** different move order, or any rotation or reflection of it, shares one entry. Because Search   **
+********************** prunes with α-β, a stored score is only exact if it fell inside the window it was searched    **
+********************** with, otherwise it is a lower bound (the search was cut off) or an upper bound (no move beat  **
+********************** α). Each entry is packed into one int:                                                         **
+**********************                                                                                                **
+**********************      bit 15 | bits 14-12 | bits 11-8      | bits 7-0                                           **
+**********************      stored | bound flag | move + 1       | score + 128                                        **
+**********************                                                                                                **
+********************** The move is stored in the canonical orientation and has to be mapped back through the inverse **
+********************** transform by the caller.                                                                      **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) TranspositionTable  Holds one packed entry per canonical state and turn.                                        **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) int probe()         takes a canonical state and turn and returns the packed entry (0 if nothing is stored).     **
+** 2) void store()        takes a canonical state, turn, score, canonical move and bound flag and stores the entry.   **
+** 3) int score()         takes a packed entry and returns its score.                                                 **
+** 4) int move()          takes a packed entry and returns its move in the canonical orientation (-1 if none).        **
+** 5) int flag()          takes a packed entry and returns EXACT, LOWER or UPPER.                                     **
+** 6) void clear()        removes every entry.                                                                        **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+
+  public static final int EXACT = 0;                                  // Score is the true score of the position
+  public static final int LOWER = 1;                                  // True score is at least the stored score
+  public static final int UPPER = 2;                                  // True score is at most the stored score
+  static final int STORED = 1 << 15;                                  // Marks a slot as holding an entry
+
+  final int[] entries = new int[PerfectPlayTable.SIZE];               // 3^9 states, times 2 for the turn
+  public long probes;                                                 // Number of calls to probe()
+  public long hits;                                                   // Number of probes that found an entry
+
+
+  static int index(int canonicalState, char turn) {                   // Same (state, turn) layout as PerfectPlayTable
+    return PerfectPlayTable.index(canonicalState, turn);
+  }
+
+
+  public int probe(int canonicalState, char turn) {                   // Returns the packed entry or 0 if empty
+    probes++;
+    int entry = entries[index(canonicalState, turn)];
+    if (entry != 0) {
+      hits++;
+    }
+    return entry;
+  }
+
+
+  public void store(int canonicalState, char turn, int score, int move,
+      int flag) {                                                     // Always replaces whatever was stored before
+    entries[index(canonicalState, turn)] = STORED | flag << 12
+        | (move + 1) << 8 | (score + 128);
+  }
+
+
+  public static int score(int entry) {                                // Unpacks the score
+    return (entry & 255) - 128;
+  }
+
+
+  public static int move(int entry) {                                 // Unpacks the move (canonical orientation)
+    return (entry >>> 8 & 15) - 1;
+  }
+
+
+  public static int flag(int entry) {                                 // Unpacks the bound flag
+    return entry >>> 12 & 7;
+  }
+
+
+  public void clear() {                                               // Empties the table and its counters
+    Arrays.fill(entries, 0);
+    probes = 0;
+    hits = 0;
+  }
+}
@@ -0,0 +1,239 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: UltimateBoard.java contains the game logic for ultimate tic tac toe: nine tic tac toe boards   **
+********************** (sub-boards) laid out as a 3x3 macro board. A move at position c of a sub-board sends the     **
+********************** opponent to sub-board c, and they have to play there unless it is already decided (won or     **
+********************** full), in which case they may play in any open position of any undecided sub-board. Winning a **
+********************** sub-board takes its macro position, and the first player to hold three macro positions in a   **
+********************** row wins; once every sub-board is decided without that, the game is a draw. Move m is          **
+********************** position m % 9 of sub-board m / 9 (0 - 80). Every sub-board is a BinaryBoard state (18 bits,  **
+********************** x's positions then o's), three to a long, and everything else fits in one more:               **
+**********************                                                                                                **
+**********************      boards[j]  bits 0-17: sub-board 3j, bits 18-35: 3j + 1, bits 36-53: 3j + 2               **
+**********************      macro      bits 0-17: sub-boards won (a BinaryBoard state of the macro board)            **
+**********************                 bits 18-26: sub-boards decided, bits 27-30: sub-board to play in (ANY = 9),    **
+**********************                 bit 31: o to move                                                              **
+**********************                                                                                                **
+********************** Each sub-board's outcome and open positions come from tables with an entry per BoardTables     **
+********************** index, worked out once from BinaryBoard's win() and possibleMoves(), so a move is a few shifts **
+********************** and two table reads. A decided sub-board's entry in MOVES is 0, so move generation only ORs    **
+********************** the tables of the sub-boards it may play in. play() changes the board in place and returns the **
+********************** macro long it replaced, which is all undo() needs, for searches (see UltimateSearch).          **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) UltimateBoard       Holds the three longs of sub-boards and the macro long.                                     **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) UltimateBoard()     constructs an empty board with x to move anywhere.                                          **
+** 2) int sub()           takes a sub-board number and returns its BinaryBoard state.                                 **
+** 3) char turn()         returns the player to move.                                                                 **
+** 4) int forced()        returns the sub-board the player to move has to play in (-1 for any).                       **
+** 5) int moves()         takes an array of at least 81 and fills it with the legal moves, returning how many.        **
+** 6) long play()         takes a legal move, makes it and returns the macro long undo() needs.                       **
+** 7) void undo()         takes the last move made and the long play() returned and takes the move back.              **
+** 8) UltimateBoard copy() returns an independent copy of the board.                                                 **
+** 9) UltimateBoard move() takes a legal move and returns a copy with the move made.                                  **
+** 10) char winner()      returns 'x' or 'o' once a player holds three macro positions in a row, else 0.              **
+** 11) boolean gameEnd()  returns whether a player has won or every sub-board is decided.                             **
+** 12) long perft()       takes a depth and returns the number of move sequences of that length.                      **
+** 13) void main()        prints perft counts and move generation speed from the empty board.                         **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+public class UltimateBoard {
+
+  static final int ANY = 9;                                           // Forced sub-board value for any of them
+  static final int DECIDED = 18;                                      // Shift of the decided sub-boards
+  static final int FORCED = 27;                                       // Shift of the sub-board to play in
+  static final long TURN = 1L << 31;                                  // Set when o is to move
+  static final int OPEN = 0;                                          // Sub-board outcomes
+  static final int X_WON = 1;
+  static final int O_WON = 2;
+  static final int DRAWN = 3;
+  static final byte[] OUTCOME = new byte[BoardTables.STATES];         // Outcome of each sub-board state
+  static final short[] MOVES = new short[BoardTables.STATES];         // Open positions of an undecided sub-board
+
+  static {
+    for (int index = 0; index < BoardTables.STATES; index++) {
+      BinaryBoard board = new BinaryBoard(BoardTables.state(index), 'x');
+      int outcome = board.win('x') ? X_WON : board.win('o') ? O_WON
+          : board.possibleMoves() == 0 ? DRAWN : OPEN;
+      OUTCOME[index] = (byte) outcome;
+      MOVES[index] = (short) (outcome == OPEN ? board.possibleMoves() : 0);
+    }
+  }
+
+  final long[] boards = new long[3];                                  // Three sub-boards to a long
+  long macro = (long) ANY << FORCED;                                  // Sub-boards won and decided, forced, turn
+
+
+  public UltimateBoard() {
+  }
+
+
+  private UltimateBoard(UltimateBoard board) {
+    boards[0] = board.boards[0];
+    boards[1] = board.boards[1];
+    boards[2] = board.boards[2];
+    macro = board.macro;
+  }
+
+
+  public int sub(int b) {
+    return (int) (boards[b / 3] >>> 18 * (b % 3)) & 0x3ffff;
+  }
+
+
+  public char turn() {
+    return (macro & TURN) == 0 ? 'x' : 'o';
+  }
+
+
+  public int forced() {
+    int forced = (int) (macro >>> FORCED) & 15;
+    return forced == ANY ? -1 : forced;
+  }
+
+
+  /* Fills list with the legal moves, in increasing order, and returns
+  ** how many there are (0 once the game is over). */
+  public int moves(int[] list) {
+    if (gameEnd()) {
+      return 0;
+    }
+    int forced = (int) (macro >>> FORCED) & 15;
+    int count = 0;
+    int first = forced == ANY ? 0 : forced;
+    int last = forced == ANY ? 8 : forced;
+    for (int b = first; b <= last; b++) {
+      int open = MOVES[BoardTables.index(sub(b))];                    // 0 for a decided sub-board
+      while (open != 0) {
+        list[count++] = b * 9 + Integer.numberOfTrailingZeros(open);
+        open &= open - 1;
+      }
+    }
+    return count;
+  }
+
+
+  /* Makes the move for the player to move and returns the macro long
+  ** from before it. The move is an unchecked precondition (it has to
+  ** be one moves() lists), as in BinaryBoard.move(). */
+  public long play(int move) {
+    long before = macro;
+    int b = move / 9;
+    int c = move - 9 * b;
+    int shift = 18 * (b % 3);
+    boolean o = (macro & TURN) != 0;
+    boards[b / 3] |= 1L << shift + c + (o ? 9 : 0);
+    int outcome = OUTCOME[BoardTables.index(
+        (int) (boards[b / 3] >>> shift) & 0x3ffff)];
+    long next = macro;
+    if (outcome != OPEN) {
+      next |= 1L << DECIDED + b;
+      if (outcome == X_WON) {
+        next |= 1L << b;
+      } else if (outcome == O_WON) {
+        next |= 1L << 9 + b;
+      }
+    }
+    long forced = (next >>> DECIDED + c & 1) != 0 ? ANY : c;          // A decided sub-board frees the opponent
+    macro = next & ~(15L << FORCED | TURN) | forced << FORCED
+        | (o ? 0 : TURN);
+    return before;
+  }
+
+
+  public void undo(int move, long before) {                           // Takes back the last move, made at move
+    int b = move / 9;
+    boolean o = (before & TURN) != 0;                                 // The player who made it
+    boards[b / 3] &= ~(1L << 18 * (b % 3) + move - 9 * b + (o ? 9 : 0));
+    macro = before;
+  }
+
+
+  public UltimateBoard copy() {
+    return new UltimateBoard(this);
+  }
+
+
+  public UltimateBoard move(int move) {                               // This board is left as it was
+    UltimateBoard next = copy();
+    next.play(move);
+    return next;
+  }
+
+
+  public char winner() {
+    int won = (int) macro & 0x3ffff;
+    return BoardTables.win(won) ? 'x' : BoardTables.win(won >>> 9) ? 'o'
+        : 0;
+  }
+
+
+  public boolean gameEnd() {
+    return winner() != 0 || (macro >>> DECIDED & 511) == 511;
+  }
+
+
+  /* Counts the move sequences of depth moves from this position: 1 for
+  ** depth 0 (the position itself), and a game that ends sooner adds
+  ** nothing, as in chess perft. Moves are made and taken back on this
+  ** board, with one move list per ply. */
+  public long perft(int depth) {
+    if (depth < 0) {
+      throw new IllegalArgumentException("depth " + depth);
+    }
+    return depth == 0 ? 1 : perft(depth, new int[depth + 1][81]);
+  }
+
+
+  private long perft(int depth, int[][] lists) {
+    int[] list = lists[depth];
+    int count = moves(list);
+    if (depth == 1) {
+      return count;
+    }
+    long total = 0;
+    for (int j = 0; j < count; j++) {
+      long before = play(list[j]);
+      total += perft(depth - 1, lists);
+      undo(list[j], before);
+    }
+    return total;
+  }
+
+
+  @Override
+  public String toString() {                                          // 9 rows of x, o and . with the sub-boards
+    StringBuilder text = new StringBuilder();                         // split by spaces and blank lines
+    for (int row = 0; row < 9; row++) {
+      for (int col = 0; col < 9; col++) {
+        int b = row / 3 * 3 + col / 3;
+        int c = row % 3 * 3 + col % 3;
+        int state = sub(b);
+        text.append((state >>> c & 1) != 0 ? 'x'
+            : (state >>> c + 9 & 1) != 0 ? 'o' : '.');
+        if (col == 2 || col == 5) {
+          text.append(' ');
+        }
+      }
+      text.append(row == 2 || row == 5 ? "\n\n" : "\n");
+    }
+    return text.toString();
+  }
+
+
+  public static void main(String[] args) {                            // Prints perft 1 - 7 and moves made per second
+    int deepest = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+    UltimateBoard board = new UltimateBoard();
+    for (int depth = 1; depth <= deepest; depth++) {
+      long start = System.nanoTime();
+      long count = board.perft(depth);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      System.out.println(String.format("perft(%d) = %d in %.3f s "
+          + "(%.1f M leaves/s)", depth, count, seconds, count / seconds / 1e6));
+    }
+  }
+}
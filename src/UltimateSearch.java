@@ -0,0 +1,233 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: UltimateSearch.java contains the computer player for ultimate tic tac toe (UltimateBoard). It  **
+********************** is MnkSearch's search on a different board: negamax with α-β pruning, a win scored WIN and a   **
+********************** draw 0 with one point off per move made, iterative deepening with the last depth's best move   **
+********************** searched first, and a hard time budget (the clock is read every 1,024 positions, and the best  **
+********************** move of the deepest depth completed is returned). As in MnkSearch, a forced win scores the     **
+********************** same however many moves away it is, so deepening stops at the first depth that proves a win or **
+********************** a loss. At the depth limit a position is scored from x's point of view by:                     **
+**********************                                                                                                **
+**********************      sub-board won:        +/- SUB_WIN * WEIGHTS[sub-board]                                    **
+**********************      sub-board undecided:  SUB_LINES[its state] * WEIGHTS[sub-board]                           **
+**********************      macro line:           +/- MACRO_TWO when one player has won two of its sub-boards and the **
+**********************                            third is still undecided                                            **
+**********************                                                                                                **
+********************** where SUB_LINES is a table with an entry per BoardTables index of x's open two-in-a-rows less  **
+********************** o's, and WEIGHTS counts the macro lines through each sub-board (so the center counts most).   **
+********************** Moves are tried in order of how often they have caused a cutoff (history heuristic).          **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) UltimateSearch      Holds the history table, the move lists, the deadline and what the last search found.       **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) int bestMove()      takes a board, a depth limit and a time budget in milliseconds (0 for none) and returns the **
+**                        best move found (-1 if the game is over).                                                   **
+** 2) int evaluate()      takes a board and returns its static evaluation from x's point of view.                     **
+** 3) void main()         plays a game against itself, one second a move, printing the depth reached.                 **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import java.util.Arrays;
+
+public class UltimateSearch {
+
+  public static final int WIN = 1 << 20;                              // Score of a won position (above any evaluation)
+  static final int INFINITY = WIN + 1;
+  static final int PROVEN = WIN - 1024;                               // Scores past this are wins or losses
+  static final int SUB_WIN = 24;                                      // Sub-board won, per macro line through it
+  static final int MACRO_TWO = 120;                                   // Two sub-boards of a macro line won
+  static final int[] WEIGHTS = { 3, 2, 3, 2, 4, 2, 3, 2, 3 };         // Macro lines through each sub-board
+  static final byte[] SUB_LINES = new byte[BoardTables.STATES];       // x's open two-in-a-rows less o's
+
+  static {
+    for (int index = 0; index < BoardTables.STATES; index++) {
+      int state = BoardTables.state(index);
+      int x = state & 511;
+      int o = state >>> 9;
+      for (int line : BinaryBoard.XWINS) {
+        if (Integer.bitCount(x & line) == 2 && (o & line) == 0) {
+          SUB_LINES[index]++;
+        } else if (Integer.bitCount(o & line) == 2 && (x & line) == 0) {
+          SUB_LINES[index]--;
+        }
+      }
+    }
+  }
+
+  final int[] history = new int[81];                                  // How often (and how deep) each move cut
+  int[][] lists = new int[0][];                                       // Move list of each ply (reused)
+  long deadline;                                                      // System.nanoTime() to stop at
+  boolean stopped;                                                    // Time ran out during the search
+  public long nodes;                                                  // Positions visited by the last search
+  public int depth;                                                   // Deepest depth completed by the last search
+  public int score;                                                   // Score of the move returned, for the mover
+
+
+  /* Deepens from 1 to maxDepth (or until a win or loss is proven, the
+  ** game's end is reached everywhere or millis run out) and returns the
+  ** best move of the deepest search completed, or of the unfinished
+  ** one once the previous best has been searched in it. */
+  public int bestMove(UltimateBoard position, int maxDepth, long millis) {
+    long start = System.nanoTime();
+    deadline = millis <= 0 ? Long.MAX_VALUE : start + millis * 1000000L;
+    stopped = false;
+    nodes = 0;
+    depth = 0;
+    score = 0;
+    if (position.gameEnd()) {
+      return -1;
+    }
+    UltimateBoard board = position.copy();
+    if (lists.length < 82) {                                          // One list per ply, never more than 81 moves
+      lists = new int[82][81];
+    }
+    Arrays.fill(history, 0);
+    int count = board.moves(lists[0]);
+    int[] root = Arrays.copyOf(lists[0], count);                      // Root moves, best so far moved to the front
+    int best = root[0];
+    int limit = Math.min(maxDepth, 81);
+    for (int d = 1; d <= limit && !stopped; d++) {
+      int alpha = -INFINITY;
+      int found = -1;
+      for (int j = 0; j < count && !stopped; j++) {
+        long before = board.play(root[j]);
+        int value = -negamax(board, -INFINITY - 1, -alpha - 1, d - 1, 1)
+            - 1;
+        board.undo(root[j], before);
+        if (!stopped && value > alpha) {
+          alpha = value;
+          found = root[j];
+        }
+      }
+      if (found < 0) {                                                // Stopped before the first move was searched
+        break;
+      }
+      best = found;
+      score = alpha;
+      if (stopped) {                                                  // The previous best was searched first, so a
+        break;                                                        // different move here is better than it
+      }
+      depth = d;
+      int j = 0;
+      while (root[j] != best) {
+        j++;
+      }
+      for (; j > 0; j--) {                                            // Search this depth's best first next time
+        root[j] = root[j - 1];
+      }
+      root[0] = best;
+      if (Math.abs(score) > PROVEN) {                                 // Nothing deeper changes a forced result
+        break;
+      }
+    }
+    return best;
+  }
+
+
+  /* Returns the value of the position for the player to move, exact
+  ** inside (alpha, beta) and a bound outside it, as in MnkSearch. At
+  ** depth 0 the static evaluation stands in for the search. */
+  private int negamax(UltimateBoard board, int alpha, int beta, int depth,
+      int ply) {
+    if ((++nodes & 1023) == 0 && System.nanoTime() > deadline) {
+      stopped = true;
+    }
+    if (stopped) {
+      return 0;                                                       // Thrown away by every caller
+    }
+    if (board.winner() != 0) {                                        // The player who just moved won
+      return -WIN;
+    }
+    int[] list = lists[ply];
+    int count = board.moves(list);
+    if (count == 0) {                                                 // Every sub-board decided, nobody won
+      return 0;
+    }
+    if (depth == 0) {
+      int eval = evaluate(board);
+      return board.turn() == 'x' ? eval : -eval;
+    }
+    for (int j = 1; j < count; j++) {                                 // Insertion sort by history, stable for equal
+      int move = list[j];                                             // counts
+      int at = j;
+      while (at > 0 && history[list[at - 1]] < history[move]) {
+        list[at] = list[at - 1];
+        at--;
+      }
+      list[at] = move;
+    }
+    int best = -INFINITY;
+    for (int j = 0; j < count; j++) {
+      int move = list[j];
+      long before = board.play(move);
+      int value = -negamax(board, -beta - 1, -alpha - 1, depth - 1, ply + 1)
+          - 1;
+      board.undo(move, before);
+      if (stopped) {
+        return 0;
+      }
+      if (value > best) {
+        best = value;
+        if (best > alpha) {
+          alpha = best;
+        }
+        if (alpha >= beta) {                                          // Opponent will never allow this position
+          history[move] += depth * depth;
+          if (history[move] > 1 << 20) {
+            for (int k = 0; k < history.length; k++) {
+              history[k] >>= 1;
+            }
+          }
+          break;
+        }
+      }
+    }
+    return best;
+  }
+
+
+  public static int evaluate(UltimateBoard board) {                   // From x's point of view
+    int won = (int) board.macro & 0x3ffff;
+    int decided = (int) (board.macro >>> UltimateBoard.DECIDED) & 511;
+    int eval = 0;
+    for (int b = 0; b < 9; b++) {
+      if ((won >>> b & 1) != 0) {
+        eval += SUB_WIN * WEIGHTS[b];
+      } else if ((won >>> b + 9 & 1) != 0) {
+        eval -= SUB_WIN * WEIGHTS[b];
+      } else if ((decided >>> b & 1) == 0) {
+        eval += SUB_LINES[BoardTables.index(board.sub(b))] * WEIGHTS[b];
+      }
+    }
+    for (int line : BinaryBoard.XWINS) {
+      int open = line & ~decided;
+      if (Integer.bitCount(open) != 1) {
+        continue;
+      }
+      if ((won & line) == (line & ~open)) {
+        eval += MACRO_TWO;
+      } else if ((won >>> 9 & line) == (line & ~open)) {
+        eval -= MACRO_TWO;
+      }
+    }
+    return eval;
+  }
+
+
+  public static void main(String[] args) {                            // Self-play, one second a move
+    UltimateSearch search = new UltimateSearch();
+    UltimateBoard board = new UltimateBoard();
+    while (!board.gameEnd()) {
+      long start = System.nanoTime();
+      int move = search.bestMove(board, Integer.MAX_VALUE, 1000);
+      System.out.println(String.format("%c plays %d: depth %d, score %d, "
+          + "%d nodes in %.0f ms", board.turn(), move, search.depth,
+          search.score, search.nodes, (System.nanoTime() - start) / 1e6));
+      board = board.move(move);
+    }
+    System.out.print(board);
+    System.out.println(board.winner() == 0 ? "draw" : board.winner() + " wins");
+  }
+}
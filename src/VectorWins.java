@@ -0,0 +1,63 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: VectorWins.java contains BatchEvaluator's win and draw checks written with the JDK Vector API  **
+********************** (the jdk.incubator.vector module). A vector holds as many states as the CPU's widest int      **
+********************** register does (8 with AVX2, 16 with AVX-512), and each of the 8 winning permutations in       **
+********************** BinaryBoard.XWINS (and the same shifted by 9 for o) is tested against every lane at once with  **
+********************** one AND and one compare, the same test as (wins[i] | state) == state. A full board is a lane  **
+********************** bit count of 9. Only BatchEvaluator uses this class, and only once it has seen the module in   **
+********************** the boot layer (run with --add-modules jdk.incubator.vector), so without it the class is never **
+********************** loaded and the scalar loop is used instead.                                                    **
+** SUMMARY OF CLASSES:                                                                                                **
+** 1) VectorWins          Holds the vector shape used.                                                                **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) int gameEnds()      takes states, a count and the output arrays, fills them for every whole vector of states    **
+**                        and returns how many were done (the rest are left to the scalar loop).                      **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorWins {
+
+  static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;  // Widest int vector the CPU has
+  static final VectorSpecies<Short> CHARS = VectorSpecies.of(short.class,  // As many 16-bit lanes (for char[])
+      VectorShape.forBitSize(SPECIES.vectorBitSize() / 2));
+
+
+  private VectorWins() {
+  }
+
+
+  /* Fills gameOver and winners ('x', 'o' or 0) for states[0] up to the
+  ** last whole vector below count and returns how many that was. A
+  ** state where both players hold a line is x's win, as in gameEnd(). */
+  static int gameEnds(int[] states, int count, boolean[] gameOver,
+      char[] winners) {
+    int lanes = SPECIES.length();
+    int done = SPECIES.loopBound(count);
+    for (int i = 0; i < done; i += lanes) {
+      IntVector s = IntVector.fromArray(SPECIES, states, i);
+      VectorMask<Integer> x = SPECIES.maskAll(false);
+      VectorMask<Integer> o = SPECIES.maskAll(false);
+      for (int win : BinaryBoard.XWINS) {
+        x = x.or(s.and(win).eq(win));
+        o = o.or(s.and(win << 9).eq(win << 9));
+      }
+      VectorMask<Integer> full = s.lanewise(VectorOperators.BIT_COUNT)
+          .eq(9);
+      x.or(o).or(full).intoArray(gameOver, i);
+      IntVector.zero(SPECIES).blend('o', o).blend('x', x)             // x first where both have won
+          .convertShape(VectorOperators.I2S, CHARS, 0)
+          .reinterpretAsShorts().intoCharArray(winners, i);
+    }
+    return done;
+  }
+}
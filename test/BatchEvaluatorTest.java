@@ -0,0 +1,117 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: BatchEvaluatorTest.java contains assertion method based tests of the BatchEvaluator class      **
+********************** contained in BatchEvaluator.java, run with the Vector API (when the module is present, as it  **
+********************** is under Maven) and with the scalar loop, against BinaryBoard one position at a time.         **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testGameEnds()      asserts gameEnds()      matches gameEnd() and win() for every one of the 2^18 states.       **
+** 2) testEvaluate()      asserts evaluate()      matches bestMove() for every reachable position and for positions   **
+**                                                missing from PerfectPlayTable.                                      **
+** 3) testCount()         asserts gameEnds()      fills only the first count entries, whatever the vector length.     **
+** 4) testRange()         asserts evaluate()      and gameEnds() reject a state past 18 bits before filling anything. **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class BatchEvaluatorTest {
+
+  @Test // 1
+  public void testGameEnds() throws Exception {                       // gameEnds expected to match BinaryBoard
+    int[] states = new int[1 << 18];
+    for (int state = 0; state < states.length; state++) {
+      states[state] = state;
+    }
+    for (boolean vector : new boolean[] { true, false }) {
+      BatchEvaluator.useVector = vector;
+      try {
+        boolean[] gameOver = new boolean[states.length];
+        char[] winners = new char[states.length];
+        BatchEvaluator.gameEnds(states, states.length, gameOver, winners);
+        for (int state = 0; state < states.length; state++) {
+          BinaryBoard board = new BinaryBoard(state, 'x');
+          assertEquals(board.gameEnd(), gameOver[state]);
+          char winner = board.win('x') ? 'x' : board.win('o') ? 'o' : 0;
+          assertEquals(winner, winners[state]);
+        }
+      } finally {
+        BatchEvaluator.useVector = BatchEvaluator.VECTOR;
+      }
+    }
+  }
+
+  @Test // 2
+  public void testEvaluate() throws Exception {                       // evaluate expected to match bestMove
+    List<BinaryBoard> boards = PerfectPlayTableTest.reachable();
+    // Case [reachable positions, and the same with the turn swapped, which
+    // are missing from the table and searched]
+    int count = 2 * boards.size();
+    int[] states = new int[count];
+    char[] turns = new char[count];
+    for (int i = 0; i < boards.size(); i++) {
+      BinaryBoard board = boards.get(i);
+      states[2 * i] = board.state;
+      turns[2 * i] = board.turn;
+      states[2 * i + 1] = board.state;
+      turns[2 * i + 1] = board.turn == 'x' ? 'o' : 'x';
+    }
+    boolean[] gameOver = new boolean[count];
+    char[] winners = new char[count];
+    int[] bestMoves = new int[count];
+    BatchEvaluator.evaluate(states, turns, count, gameOver, winners,
+        bestMoves);
+    for (int i = 0; i < count; i++) {
+      BinaryBoard board = new BinaryBoard(states[i], turns[i]);
+      assertEquals(board.gameEnd(), gameOver[i]);
+      assertEquals(board.gameEnd() ? -1 : board.bestMove(), bestMoves[i]);
+    }
+  }
+
+  @Test // 3
+  public void testCount() throws Exception {                          // gameEnds expected to fill only count entries
+    int[] states = new int[40];
+    Arrays.fill(states, 7);                                           // x top row, a win
+    for (int count = 0; count <= 40; count++) {
+      boolean[] gameOver = new boolean[41];
+      char[] winners = new char[41];
+      BatchEvaluator.gameEnds(states, count, gameOver, winners);
+      for (int i = 0; i < 41; i++) {
+        assertEquals(i < count, gameOver[i]);
+        assertEquals(i < count ? 'x' : 0, winners[i]);
+      }
+    }
+  }
+
+  @Test // 4
+  public void testRange() throws Exception {                          // evaluate and gameEnds expected to reject:
+    for (int bad : new int[] { 1 << 18, -1, Integer.MAX_VALUE }) {
+      int[] states = { 0, bad };                                      // after a valid state
+      boolean[] gameOver = new boolean[2];
+      char[] winners = new char[2];
+      int[] bestMoves = { 9, 9 };
+      try {
+        BatchEvaluator.evaluate(states, new char[] { 'x', 'x' }, 2,
+            gameOver, winners, bestMoves);
+        fail();
+      } catch (IllegalArgumentException e) {
+      }
+      try {
+        BatchEvaluator.gameEnds(states, 2, gameOver, winners);
+        fail();
+      } catch (IllegalArgumentException e) {
+      }
+      assertEquals(9, bestMoves[0]);                                  // nothing filled in
+      // Case [a bad state past count is never read]
+      BatchEvaluator.gameEnds(states, 1, gameOver, winners);
+      assertFalse(gameOver[0]);
+    }
+  }
+}
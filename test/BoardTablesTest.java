@@ -0,0 +1,99 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: BoardTablesTest.java contains assertion method based tests of the BoardTables class contained  **
+********************** in BoardTables.java. BinaryBoard's win(), possibleMoves() and gameEnd() are checked for every **
+********************** one of the 2^18 states against the loops they used before the tables (kept below as the       **
+********************** reference), including states that take a position twice.                                     **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testWin()           asserts win()           matches the scan over the winning permutations for every state.     **
+** 2) testPossibleMoves() asserts possibleMoves() matches the Math.pow() loop for every state.                        **
+** 3) testGameEnd()       asserts gameEnd()       matches the reference for every state.                              **
+** 4) testIndex()         asserts index()         numbers the 3^9 states with no position taken twice 0 -> 19,682,    **
+**                                                and state() turns each number back into its state.                  **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class BoardTablesTest {
+
+  static final int[] XWINS = { 7, 56, 73, 84, 146, 273, 292, 448 };   // Reference values of winning permutations
+  static final int[] OWINS = { 3584, 28672, 37376, 43008, 74752,
+      139776, 149504, 229376 };
+
+  @Test // 1
+  public void testWin() throws Exception {                            // win expected to match the reference scan
+    for (int state = 0; state < 1 << 18; state++) {
+      BinaryBoard board = new BinaryBoard(state, 'x');
+      assertEquals(win(state, XWINS), board.win('x'));
+      assertEquals(win(state, OWINS), board.win('o'));
+      assertEquals(win(state, XWINS), Search.win(state));
+      assertEquals(win(state, OWINS), Search.win(state >>> 9));
+    }
+  }
+
+  @Test // 2
+  public void testPossibleMoves() throws Exception {                  // possibleMoves expected to match the reference
+    for (int state = 0; state < 1 << 18; state++) {                   // loop
+      assertEquals(possibleMoves(state),
+          new BinaryBoard(state, 'x').possibleMoves());
+      assertEquals(possibleMoves(state), BoardTables.free(state));
+    }
+  }
+
+  @Test // 3
+  public void testGameEnd() throws Exception {                        // gameEnd expected to match the reference
+    for (int state = 0; state < 1 << 18; state++) {
+      boolean end = win(state, XWINS) || win(state, OWINS)
+          || Integer.bitCount(state) == 9;
+      assertEquals(end, new BinaryBoard(state, 'o').gameEnd());
+    }
+  }
+
+  @Test // 4
+  public void testIndex() throws Exception {                          // index expected to return:
+    boolean[] seen = new boolean[BoardTables.STATES];
+    int count = 0;
+    for (int state = 0; state < 1 << 18; state++) {
+      if ((state & state >>> 9) != 0) {                               // Position taken twice, no index
+        continue;
+      }
+      int index = BoardTables.index(state);
+      assertTrue(index >= 0 && index < BoardTables.STATES);           // a number from 0 to 19,682
+      assertFalse(seen[index]);                                       // different for every state
+      seen[index] = true;
+      assertEquals(state, BoardTables.state(index));                  // that state() turns back into the state
+      count++;
+    }
+    assertEquals(BoardTables.STATES, count);                          // and used by exactly one state
+    // Case [x top left is digit 0, o bottom right is digit 8]
+    assertEquals(1, BoardTables.index(1));
+    assertEquals(2 * 6561, BoardTables.index(256 << 9));
+  }
+
+
+  static boolean win(int state, int[] wins) {                         // Original BinaryBoard.win() scan
+    for (int i = 0; i < wins.length; i++) {
+      if ((wins[i] | state) == state) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+
+  static int possibleMoves(int state) {                               // Original BinaryBoard.possibleMoves() loop
+    int moves = 511;
+    for (int i = 0; i < 9; i++) {
+      if (((int) (Math.pow(2, i)) | state) == state
+          || (512 * (int) (Math.pow(2, i)) | state) == state) {
+        moves -= (int) (Math.pow(2, i));
+      }
+    }
+    return moves;
+  }
+}
@@ -0,0 +1,287 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: GameLogTest.java contains assertion method based tests of the GameLog class contained in       **
+********************** GameLog.java and the GameLogReader class contained in GameLogReader.java. Logs are written to  **
+********************** temporary directories, deleted afterwards.                                                     **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testRecord()        asserts record()        packs random games that boards() replays through move() to the same **
+**                                                positions and result, and rejects moves that are not open.          **
+** 2) testRoundTrip()     asserts append()        from 4 threads writes every record once, in segments of the size    **
+**                                                given, and GameLogReader reads them back in order.                  **
+** 3) testReopen()        asserts GameLog()       continues the last segment after its last whole record, over a     **
+**                                                record or header cut short, and open() leaves out a record cut      **
+**                                                short and rejects a bad segment.                                    **
+** 4) testFlush()         asserts flush()         makes every append readable, a part full batch is written on its    **
+**                                                own after FLUSH_MILLIS, and appending after close() throws.         **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class GameLogTest {
+
+  static long randomGame(Random random, int[] moves) {                // A random game, finished or not
+    BinaryBoard board = new BinaryBoard();
+    int count = 0;
+    int stop = random.nextInt(12);                                    // Unfinished about a third of the time
+    while (!board.gameEnd() && count < stop) {
+      int move = random.nextInt(9);
+      if ((board.possibleMoves() >>> move & 1) != 0) {
+        moves[count++] = move;
+        board = board.move(move);
+      }
+    }
+    return GameLog.record(moves, count);
+  }
+
+
+  static void delete(Path directory) throws IOException {
+    for (Path file : GameLog.segments(directory)) {
+      Files.delete(file);
+    }
+    Files.delete(directory);
+  }
+
+  @Test // 1
+  public void testRecord() throws Exception {                         // record expected to:
+    Random random = new Random(16);
+    int[] moves = new int[9];
+    for (int g = 0; g < 10000; g++) {
+      // Case 1 [round trip through move()]
+      long record = randomGame(random, moves);
+      int count = GameLog.count(record);
+      assertEquals(0, record >>> 42);                                 // fit 42 bits
+      BinaryBoard[] boards = GameLog.boards(record);
+      assertEquals(count + 1, boards.length);
+      BinaryBoard board = new BinaryBoard();
+      assertEquals(board.state, boards[0].state);
+      for (int i = 0; i < count; i++) {
+        assertEquals(moves[i], GameLog.move(record, i));
+        board = board.move(moves[i]);
+        assertEquals(board.state, boards[i + 1].state);
+        assertEquals(board.turn, boards[i + 1].turn);
+      }
+      char result = board.win('x') ? 'x' : board.win('o') ? 'o'
+          : board.gameEnd() ? '-' : ' ';
+      assertEquals(result, GameLog.result(record));
+    }
+    // Case 2 [reject a taken position, a move after the end, too many]
+    for (int[] bad : new int[][] { { 4, 4 }, { 0, 3, 1, 4, 2, 5 },
+        { 9 }, { -1 } }) {
+      try {
+        GameLog.record(bad, bad.length);
+        fail();
+      } catch (IllegalArgumentException e) {
+      }
+    }
+    try {
+      GameLog.record(new int[10], 10);
+      fail();
+    } catch (IllegalArgumentException e) {
+    }
+  }
+
+  @Test // 2
+  public void testRoundTrip() throws Exception {                      // append and read expected to:
+    Path directory = Files.createTempDirectory("gamelog");
+    int perThread = 3 * GameLog.BATCH + 5;
+    long[][] written = new long[4][perThread];
+    try {
+      // Case 1 [write every record once, from several threads]
+      try (GameLog log = new GameLog(directory, 10000)) {
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+          long[] records = written[t];
+          Random random = new Random(t);
+          Thread thread = new Thread(() -> {
+            int[] moves = new int[9];
+            for (int i = 0; i < perThread; i++) {
+              records[i] = randomGame(random, moves);
+              log.append(records[i]);
+            }
+          });
+          threads.add(thread);
+          thread.start();
+        }
+        for (Thread thread : threads) {
+          thread.join();
+        }
+      }
+      GameLogReader reader = GameLogReader.open(directory);
+      assertEquals(4 * perThread, reader.count);
+      // Case 2 [in segments of 10,000 records]
+      Path[] segments = GameLog.segments(directory);
+      assertEquals(5, segments.length);
+      assertEquals(GameLog.HEADER + 10000 * GameLog.RECORD,
+          Files.size(segments[0]));
+      assertEquals("games-0000000000010000.log",
+          segments[1].getFileName().toString());
+      // Case 3 [read back by number and by scan, in the same order]
+      long[] read = new long[(int) reader.count];
+      int[] at = { 0 };
+      reader.scan(record -> read[at[0]++] = record);
+      for (int i = 0; i < read.length; i++) {
+        assertEquals(read[i], reader.record(i));
+      }
+      long[] all = new long[4 * perThread];
+      for (int t = 0; t < 4; t++) {
+        System.arraycopy(written[t], 0, all, t * perThread, perThread);
+      }
+      long[] sorted = read.clone();
+      Arrays.sort(all);
+      Arrays.sort(sorted);
+      assertArrayEquals(all, sorted);
+      // Case 4 [replayed as boards]
+      int[] number = { 0 };
+      reader.games().forEach(boards -> {
+        long record = read[number[0]++];
+        assertEquals(GameLog.count(record) + 1, boards.length);
+        assertEquals(GameLog.boards(record)[boards.length - 1].state,
+            boards[boards.length - 1].state);
+      });
+      assertEquals(read.length, number[0]);
+      try {
+        reader.record(reader.count);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test // 3
+  public void testReopen() throws Exception {                         // GameLog and open expected to:
+    Path directory = Files.createTempDirectory("gamelog");
+    Random random = new Random(3);
+    int[] moves = new int[9];
+    try {
+      // Case 1 [continue the last segment after its last record, and start the next once it is full]
+      try (GameLog log = new GameLog(directory, 1000)) {
+        for (int i = 0; i < 1500; i++) {
+          log.append(randomGame(random, moves));
+        }
+      }
+      try (GameLog log = new GameLog(directory, 1000)) {
+        for (int i = 0; i < 10; i++) {
+          log.append(randomGame(random, moves));
+        }
+      }
+      Path[] segments = GameLog.segments(directory);
+      assertEquals(2, segments.length);
+      assertEquals(1000, GameLog.first(segments[1]));
+      long last = GameLogReader.open(directory).record(1509);
+      try (GameLog log = new GameLog(directory, 510)) {               // Segment 1000 is full at 510
+        log.append(last);
+      }
+      assertEquals(1510, GameLog.first(GameLog.segments(directory)[2]));
+      // Case 2 [leave out a record cut short, and write over it]
+      segments = GameLog.segments(directory);
+      try (FileChannel channel = FileChannel.open(segments[2],
+          StandardOpenOption.WRITE)) {
+        channel.truncate(Files.size(segments[2]) - 2);
+      }
+      assertEquals(1510, GameLogReader.open(directory).count);
+      try (GameLog log = new GameLog(directory, 1000)) {
+        log.append(last);
+      }
+      GameLogReader reader = GameLogReader.open(directory);
+      assertEquals(1511, reader.count);
+      assertEquals(last, reader.record(1510));
+      assertEquals(3, GameLog.segments(directory).length);
+      // Case 3 [continue a segment left with only its header]
+      Path bare = directory.resolve("games-0000000000001511.log");
+      try (FileChannel channel = FileChannel.open(bare,
+          StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        channel.write(GameLog.header(1511));
+      }
+      try (GameLog log = new GameLog(directory, 1000)) {
+        log.append(last);
+      }
+      assertEquals(1512, GameLogReader.open(directory).count);
+      assertEquals(GameLog.HEADER + GameLog.RECORD, Files.size(bare));
+      // Case 4 [reject a header cut short, then write it again and continue]
+      Path torn = directory.resolve("games-0000000000001512.log");
+      Files.write(torn, Arrays.copyOf(GameLog.header(1512).array(), 5));
+      try {
+        GameLogReader.open(directory);
+        fail();
+      } catch (IOException e) {
+        assertTrue(e.getMessage().endsWith("is not a game log segment"));
+      }
+      try (GameLog log = new GameLog(directory, 1000)) {
+        log.append(last);
+      }
+      reader = GameLogReader.open(directory);
+      assertEquals(1513, reader.count);
+      assertEquals(last, reader.record(1512));
+      assertEquals(5, GameLog.segments(directory).length);
+      // Case 5 [reject a file that is not a segment]
+      Files.write(directory.resolve("games-0000000000009999.log"),
+          new byte[GameLog.HEADER]);
+      try {
+        GameLogReader.open(directory);
+        fail();
+      } catch (IOException e) {
+      }
+      try {
+        new GameLog(directory, 1000).close();
+        fail();
+      } catch (IOException e) {
+      }
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test // 4
+  public void testFlush() throws Exception {                          // flush expected to:
+    Path directory = Files.createTempDirectory("gamelog");
+    try {
+      GameLog log = new GameLog(directory, 1000);
+      // Case 1 [make every append readable]
+      long record = GameLog.record(new int[] { 4, 0, 8 }, 3);
+      for (int i = 0; i < 10; i++) {
+        log.append(record);
+      }
+      log.flush();
+      assertEquals(10, GameLogReader.open(directory).count);
+      // Case 2 [a part full batch written after FLUSH_MILLIS]
+      log.append(new int[] { 0, 1, 2 }, 3);
+      long waited = 0;
+      while (GameLogReader.open(directory).count < 11 && waited < 5000) {
+        Thread.sleep(10);
+        waited += 10;
+      }
+      assertEquals(11, GameLogReader.open(directory).count);
+      long part = GameLogReader.open(directory).record(10);
+      assertEquals(3, GameLog.count(part));
+      assertEquals(' ', GameLog.result(part));                        // Nobody has won yet
+      // Case 3 [throw after close]
+      log.close();
+      log.close();                                                    // (twice is fine)
+      try {
+        log.append(record);
+        fail();
+      } catch (IllegalStateException e) {
+      }
+    } finally {
+      delete(directory);
+    }
+  }
+}
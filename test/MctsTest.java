@@ -0,0 +1,147 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: MctsTest.java contains assertion method based tests of the Mcts class contained in Mcts.java.  **
+********************** Moves are checked against PerfectPlayTable's scores: a move is good if it keeps the outcome    **
+********************** the player to move can force.                                                                 **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testForcedWin()     asserts bestMove()      takes a win one move away and keeps a forced win in sampled 3,3,3   **
+**                                                positions.                                                          **
+** 2) testBlock()         asserts bestMove()      blocks a line the opponent is about to finish and never gives up a  **
+**                                                draw in sampled 3,3,3 positions.                                    **
+** 3) testReuse()         asserts bestMove()      carries the subtree of the moves played over to the next search,    **
+**                                                runs exactly the iterations asked for, and starts over otherwise.   **
+** 4) testParallel()      asserts bestMove()      on 4 threads splits the iterations, finds the same wins and keeps   **
+**                                                to a time budget.                                                   **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class MctsTest {
+
+  static int outcome(BinaryBoard board) {                             // 1, 0 or -1 for the player to move, with
+    int score = PerfectPlayTable.get().score(board.state, board.turn);  // perfect play
+    int forX = score > 50 ? 1 : score < -50 ? -1 : 0;
+    return board.turn == 'x' ? forX : -forX;
+  }
+
+
+  static List<BinaryBoard> sample(int outcome, int count) {           // Open positions the mover wins (1) or draws (0)
+    List<BinaryBoard> found = new ArrayList<BinaryBoard>();
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+      if (!board.gameEnd() && outcome(board) == outcome) {
+        found.add(board);
+      }
+    }
+    Collections.shuffle(found, new Random(17));
+    return found.subList(0, Math.min(count, found.size()));
+  }
+
+  @Test // 1
+  public void testForcedWin() throws Exception {                      // bestMove expected to:
+    Mcts mcts = new Mcts(1 << 16, 1);
+    // Case 1 [take a win one move away]
+    BinaryBoard board = new BinaryBoard().move(0).move(3).move(1).move(4);  // x (0 and 1) to move, o holds 3 and 4
+    assertEquals(2, mcts.bestMove(MnkBoard.of(board), 2000, 0));
+    board = board.move(8);                                            // o wins at 5 rather than block x at 2
+    assertEquals(5, mcts.bestMove(MnkBoard.of(board), 2000, 0));
+    // Case 2 [keep a forced win]
+    for (BinaryBoard won : sample(1, 60)) {
+      mcts.clear();
+      int move = mcts.bestMove(MnkBoard.of(won), 20000, 0);
+      BinaryBoard next = won.move(move);
+      assertTrue(next.gameEnd() ? next.win(won.turn) : outcome(next) == -1);
+    }
+  }
+
+  @Test // 2
+  public void testBlock() throws Exception {                          // bestMove expected to:
+    Mcts mcts = new Mcts(1 << 16, 1);
+    // Case 1 [block the line x is about to finish]
+    BinaryBoard board = new BinaryBoard().move(0).move(4).move(1);    // x holds 0 and 1
+    assertEquals(2, mcts.bestMove(MnkBoard.of(board), 5000, 0));
+    board = new BinaryBoard().move(4).move(0).move(8).move(2);        // o blocks, then x must block 1
+    assertEquals(1, mcts.bestMove(MnkBoard.of(board), 5000, 0));
+    // Case 2 [keep a draw]
+    for (BinaryBoard drawn : sample(0, 60)) {
+      mcts.clear();
+      int move = mcts.bestMove(MnkBoard.of(drawn), 20000, 0);
+      BinaryBoard next = drawn.move(move);
+      assertTrue(next.gameEnd() || outcome(next) == 0);
+    }
+  }
+
+  @Test // 3
+  public void testReuse() throws Exception {                          // bestMove expected to:
+    Mcts mcts = new Mcts(1 << 18, 1);
+    MnkBoard board = new MnkBoard(4, 4, 4);
+    // Case 1 [run exactly the iterations asked for, from a new tree]
+    int move = mcts.bestMove(board, 30000, 0);
+    assertEquals(30000, mcts.iterations);
+    assertEquals(0, mcts.reused);
+    int root = mcts.trees[0].first[0];
+    int child = root;
+    while (mcts.trees[0].move[child] != move) {
+      child++;
+    }
+    Mcts.Tree tree = mcts.trees[0];
+    int reply = tree.move[tree.first[child]];                         // A reply the tree has looked at
+    int carried = tree.visits[tree.first[child]];
+    assertTrue(carried > 0);
+    // Case 2 [carry over the subtree of the move and reply]
+    MnkBoard next = board.move(move).move(reply);
+    mcts.bestMove(next, 1000, 0);
+    assertEquals(carried, mcts.reused);
+    assertEquals(carried + 1000, tree.visits[0]);
+    // Case 3 [start over from a position that does not follow]
+    mcts.bestMove(new MnkBoard(4, 4, 4).move(15), 1000, 0);
+    assertEquals(0, mcts.reused);
+    assertEquals(1000, tree.visits[0]);
+    mcts.bestMove(new MnkBoard(3, 3, 3), 1000, 0);                    // (another game)
+    assertEquals(0, mcts.reused);
+    // Case 4 [return -1 once the game is over, and need a limit]
+    board = new MnkBoard(3, 3, 3).move(0).move(3).move(1).move(4).move(2);
+    assertEquals(-1, mcts.bestMove(board, 1000, 0));
+    try {
+      mcts.bestMove(new MnkBoard(3, 3, 3), 0, 0);
+      fail();
+    } catch (IllegalArgumentException e) {
+    }
+  }
+
+  @Test // 4
+  public void testParallel() throws Exception {                       // 4 threads expected to:
+    Mcts mcts = new Mcts(1 << 16, 4);
+    // Case 1 [split the iterations among the trees]
+    BinaryBoard board = new BinaryBoard().move(0).move(3).move(1).move(4);
+    assertEquals(2, mcts.bestMove(MnkBoard.of(board), 4002, 0));
+    assertEquals(4 * 1001, mcts.iterations);
+    for (Mcts.Tree tree : mcts.trees) {
+      assertEquals(1001, tree.iterations);
+    }
+    // Case 2 [keep a forced win]
+    for (BinaryBoard won : sample(1, 20)) {
+      mcts.clear();
+      int move = mcts.bestMove(MnkBoard.of(won), 20000, 0);
+      BinaryBoard next = won.move(move);
+      assertTrue(next.gameEnd() ? next.win(won.turn) : outcome(next) == -1);
+    }
+    // Case 3 [keep to a time budget]
+    long start = System.nanoTime();
+    mcts.bestMove(new MnkBoard(5, 5, 4), 0, 200);
+    long millis = (System.nanoTime() - start) / 1000000;
+    assertTrue(millis >= 200);                                        // Iterated until the deadline
+    assertTrue(millis < 200 + 10000);                                 // (a margin only ignoring the budget exceeds)
+    assertTrue(mcts.iterations > 0);
+  }
+}
@@ -0,0 +1,140 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: MnkBoardTest.java contains assertion method based tests of the MnkBoard class contained in     **
+********************** MnkBoard.java. The 3,3,3 board is checked against BinaryBoard for every reachable position.   **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testLines()         asserts MnkBoard()      generates every line of k positions, and rejects a k that fits      **
+**                                                nowhere.                                                            **
+** 2) testWin()           asserts win()           and gameEnd() match BinaryBoard for every reachable position.       **
+** 3) testUndo()          asserts undo()          restores the evaluation, hash, winner and turn play() changed.      **
+** 4) testEvaluate()      asserts evaluate()      matches the evaluation computed from scratch.                       **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.util.Random;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class MnkBoardTest {
+
+  @Test // 1
+  public void testLines() throws Exception {                          // MnkBoard expected to generate:
+    // Case 1 [tic tac toe, 3 rows, 3 columns and 2 diagonals]
+    MnkBoard board = new MnkBoard(3, 3, 3);
+    assertEquals(8, board.lines.length);
+    assertEquals(4, board.linesAt[4].length);                         // center on 4, corners on 3, edges on 2
+    assertEquals(3, board.linesAt[0].length);
+    assertEquals(2, board.linesAt[1].length);
+    // Case 2 [4,4,4, 4 rows, 4 columns and 2 diagonals]
+    assertEquals(10, new MnkBoard(4, 4, 4).lines.length);
+    // Case 3 [gomoku, 11 per row and column, 11 * 11 per diagonal]
+    assertEquals(2 * 15 * 11 + 2 * 11 * 11,
+        new MnkBoard(15, 15, 5).lines.length);
+    // Case 4 [a line can cross from one word into the next]
+    board = new MnkBoard(15, 15, 5);
+    for (int cell : new int[] { 60, 61, 62, 63, 64 }) {               // row 4, columns 0 to 4
+      board.x[cell >>> 6] |= 1L << cell;
+    }
+    assertTrue(board.win('x'));
+    // Case 5 [no line of 4 fits on 3x3]
+    try {
+      new MnkBoard(3, 3, 4);
+      fail();
+    } catch (IllegalArgumentException e) {
+    }
+  }
+
+  @Test // 2
+  public void testWin() throws Exception {                            // win expected to match BinaryBoard
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+      MnkBoard mnk = MnkBoard.of(board);
+      assertEquals(board.win('x'), mnk.win('x'));
+      assertEquals(board.win('o'), mnk.win('o'));
+      assertEquals(board.gameEnd(), mnk.gameEnd());
+      assertEquals(board.turn, mnk.turn);
+      for (int i = 0; i < 9; i++) {
+        char expected = (board.state >>> i & 1) != 0 ? 'x'
+            : (board.state >>> i + 9 & 1) != 0 ? 'o' : ' ';
+        assertEquals(expected, mnk.at(i));
+        if (expected == ' ' && !board.gameEnd()) {                    // move() expected to agree on the result
+          BinaryBoard next = board.move(i);
+          MnkBoard played = mnk.move(i);
+          assertEquals(next.win(board.turn), played.winner != 0);
+          assertEquals(next.gameEnd(), played.gameEnd());
+          assertEquals(' ', mnk.at(i));                               // and leave the original as it was
+        }
+      }
+    }
+  }
+
+  @Test // 3
+  public void testUndo() throws Exception {                           // undo expected to restore:
+    Random random = new Random(7);
+    for (int game = 0; game < 100; game++) {
+      MnkBoard board = new MnkBoard(15, 15, 5);
+      int[] moves = new int[board.cells];
+      int[] evals = new int[board.cells];
+      long[] hashes = new long[board.cells];
+      int made = 0;
+      while (!board.gameEnd()) {                                      // Random game to the end
+        int cell = random.nextInt(board.cells);
+        if (board.occupied(cell)) {
+          continue;
+        }
+        evals[made] = board.eval;
+        hashes[made] = board.hash;
+        moves[made++] = cell;
+        board.play(cell);
+      }
+      while (made > 0) {                                              // Taken back one move at a time
+        board.undo(moves[--made]);
+        assertEquals(evals[made], board.eval);                        // the evaluation
+        assertEquals(hashes[made], board.hash);                       // the hash
+        assertEquals(0, board.winner);                                // nobody having won
+        assertEquals(made % 2 == 0 ? 'x' : 'o', board.turn);          // the player to move
+        assertEquals(made, board.stones);
+      }
+      assertEquals(0, board.hash);                                    // back to the empty board
+      assertEquals(0, board.eval);
+    }
+  }
+
+  @Test // 4
+  public void testEvaluate() throws Exception {                       // evaluate expected to return:
+    // Case 1 [x in the center of 3x3, 4 lines of 1]
+    MnkBoard board = new MnkBoard(3, 3, 3).move(4);
+    assertEquals(4, board.evaluate());
+    // Case 2 [o in a corner blocks 1 of x's lines and adds 2 of its own]
+    assertEquals(3 - 2, board.move(0).evaluate());
+    // Case 3 [the running value, after random moves, equals a full count]
+    Random random = new Random(11);
+    board = new MnkBoard(9, 9, 4);
+    for (int made = 0; made < 30 && !board.gameEnd(); made++) {
+      int cell = random.nextInt(board.cells);
+      if (!board.occupied(cell)) {
+        board.play(cell);
+        assertEquals(count(board), board.evaluate());
+      }
+    }
+  }
+
+
+  static int count(MnkBoard board) {                                  // Evaluation summed over every line
+    int total = 0;
+    for (long[] mask : board.lines) {
+      int xs = 0;
+      int os = 0;
+      for (int w = 0; w < board.words; w++) {
+        xs += Long.bitCount(board.x[w] & mask[w]);
+        os += Long.bitCount(board.o[w] & mask[w]);
+      }
+      total += os == 0 ? board.weights[xs] : xs == 0 ? -board.weights[os] : 0;
+    }
+    return total;
+  }
+}
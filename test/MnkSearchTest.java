@@ -0,0 +1,129 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: MnkSearchTest.java contains assertion method based tests of the MnkSearch class contained in   **
+********************** MnkSearch.java. The 3,3,3 search is checked against BinaryBoard.bestMove() for every reachable **
+********************** position, and gomoku for the moves no depth should miss and for keeping to its time budget.   **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testTicTacToe()     asserts bestMove()      returns BinaryBoard.bestMove()'s move for every reachable position, **
+**                                                and -1 once the game is over.                                       **
+** 2) testGomoku()        asserts bestMove()      takes an open four to win and blocks the opponent's four.           **
+** 3) testBudget()        asserts bestMove()      returns a legal move within the budget, deepening as time allows.   **
+** 4) testParallel()      asserts bestMove()      on 4 threads returns the same move, score and depth as on one, for  **
+**                                                every reachable 3,3,3 position and random 5,5,4 and 15,15,5 ones,   **
+**                                                and keeps to the budget.                                            **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.util.Random;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class MnkSearchTest {
+
+  @Test // 1
+  public void testTicTacToe() throws Exception {                      // bestMove expected to match BinaryBoard
+    MnkSearch search = new MnkSearch(16);
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+      int move = search.bestMove(MnkBoard.of(board), Integer.MAX_VALUE, 0);
+      if (board.gameEnd()) {
+        assertEquals(-1, move);
+      } else {
+        assertEquals(board.bestMove(), move);
+      }
+    }
+  }
+
+  @Test // 2
+  public void testGomoku() throws Exception {                         // bestMove expected to:
+    MnkSearch search = new MnkSearch();
+    // Case 1 [x holds row 7, columns 5 to 8, and completes the five]
+    MnkBoard board = gomoku(new int[] { 110, 111, 112, 113 },
+        new int[] { 20, 40, 60, 80 });
+    int move = search.bestMove(board, 4, 0);
+    assertTrue(move == 109 || move == 114);
+    assertEquals(MnkSearch.WIN - 1, search.score);
+    // Case 2 [o holds column 3, rows 2 to 5, x has blocked one end and has to block the other]
+    board = gomoku(new int[] { 18, 14, 200, 210 },
+        new int[] { 33, 48, 63, 78 });
+    move = search.bestMove(board, 4, 0);
+    assertEquals(93, move);
+  }
+
+  @Test // 3
+  public void testBudget() throws Exception {                         // bestMove expected to return:
+    MnkSearch search = new MnkSearch();
+    MnkBoard board = gomoku(new int[] { 112, 96 }, new int[] { 113 });
+    long start = System.nanoTime();
+    int move = search.bestMove(board, Integer.MAX_VALUE, 200);
+    long millis = (System.nanoTime() - start) / 1000000;
+    assertTrue(search.stopped);                                       // stopped by the budget, not the depth
+    assertTrue(millis < 200 + 10000);                                 // (a margin only ignoring the budget exceeds)
+    assertTrue(search.depth >= 1);                                    // having finished at least one depth
+    assertTrue(move >= 0 && !board.occupied(move));                   // a legal move
+    int shallow = search.depth;
+    search.bestMove(board, Integer.MAX_VALUE, 800);                   // deeper with more time
+    assertTrue(search.depth >= shallow);
+    // Case [no budget, stopped by the depth]
+    search.bestMove(board, 2, 0);
+    assertEquals(2, search.depth);
+  }
+
+  @Test // 4
+  public void testParallel() throws Exception {                       // bestMove on 4 threads expected to return:
+    MnkSearch sequential = new MnkSearch(16);
+    MnkSearch parallel = new MnkSearch(16, 4);
+    // Case 1 [every reachable tic tac toe position, searched to the end]
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+      assertEquals(sequential.bestMove(MnkBoard.of(board), Integer.MAX_VALUE,
+          0), parallel.bestMove(MnkBoard.of(board), Integer.MAX_VALUE, 0));
+      assertEquals(sequential.score, parallel.score);
+    }
+    // Case 2 [random positions searched to a fixed depth, the same tables
+    // reused from one position to the next]
+    Random random = new Random(5);
+    for (int game = 0; game < 20; game++) {
+      boolean small = game % 2 == 0;
+      MnkBoard board = small ? new MnkBoard(5, 5, 4) : new MnkBoard(15, 15, 5);
+      for (int made = 0, stones = 2 + random.nextInt(8); made < stones
+          && !board.gameEnd();) {
+        int cell = small ? random.nextInt(25)                         // Gomoku stones near the center
+            : (5 + random.nextInt(5)) * 15 + 5 + random.nextInt(5);
+        if (!board.occupied(cell)) {
+          board.play(cell);
+          made++;
+        }
+      }
+      int depth = small ? 6 : 4;
+      assertEquals(sequential.bestMove(board, depth, 0),
+          parallel.bestMove(board, depth, 0));
+      assertEquals(sequential.score, parallel.score);
+      assertEquals(sequential.depth, parallel.depth);
+    }
+    // Case 3 [a legal move within the budget]
+    MnkBoard board = gomoku(new int[] { 112, 96 }, new int[] { 113 });
+    long start = System.nanoTime();
+    int move = parallel.bestMove(board, Integer.MAX_VALUE, 200);
+    assertTrue(parallel.stopped);                                     // Stopped by the budget, with a margin only
+    assertTrue((System.nanoTime() - start) / 1000000 < 200 + 10000);  // ignoring it exceeds
+    assertTrue(move >= 0 && !board.occupied(move));
+  }
+
+
+  static MnkBoard gomoku(int[] xs, int[] os) {                        // 15,15,5 board with the stones given, x's
+    MnkBoard board = new MnkBoard(15, 15, 5);                         // and o's played alternately
+    for (int i = 0; i < Math.max(xs.length, os.length); i++) {
+      if (i < xs.length) {
+        board.play(xs[i]);
+      }
+      if (i < os.length) {
+        board.play(os[i]);
+      }
+    }
+    return board;
+  }
+}
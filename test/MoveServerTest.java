@@ -0,0 +1,98 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: MoveServerTest.java contains assertion method based tests of the MoveServer class contained in **
+********************** MoveServer.java. The last test starts a real server on a free port and sends it requests.      **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testParams()        asserts intParam() and charParam() read the value of a parameter, or -1 when it is missing  **
+**                                                or malformed.                                                       **
+** 2) testAnswer()        asserts answer()        returns bestMove() and gameEnd() as JSON, or null for invalid input.**
+** 3) testServer()        asserts the server      answers GET /move with 200, bad input with 400 and POST with 405.   **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+import com.sun.net.httpserver.HttpServer;
+
+public class MoveServerTest {
+
+  @Test // 1
+  public void testParams() throws Exception {                         // intParam and charParam expected to return:
+    // Case 1 [parameters in either order]
+    assertEquals(528, MoveServer.intParam("state=528&turn=x", "state"));
+    assertEquals('x', MoveServer.charParam("state=528&turn=x", "turn"));
+    assertEquals(528, MoveServer.intParam("turn=o&state=528", "state"));
+    assertEquals('o', MoveServer.charParam("turn=o&state=528", "turn"));
+    // Case 2 [missing query or parameter, or a name that only starts the same]
+    assertEquals(-1, MoveServer.intParam(null, "state"));
+    assertEquals(-1, MoveServer.intParam("turn=x", "state"));
+    assertEquals(-1, MoveServer.intParam("states=5", "state"));
+    // Case 3 [empty, not a number, too long, or more than one character]
+    assertEquals(-1, MoveServer.intParam("state=", "state"));
+    assertEquals(-1, MoveServer.intParam("state=-5", "state"));
+    assertEquals(-1, MoveServer.intParam("state=1234567890", "state"));
+    assertEquals(-1, MoveServer.charParam("turn=xo", "turn"));
+    assertEquals(-1, MoveServer.charParam("turn=", "turn"));
+  }
+
+  @Test // 2
+  public void testAnswer() throws Exception {                         // answer expected to return:
+    // Case 1 [empty board, x to move]
+    assertEquals("{\"move\":" + new BinaryBoard().bestMove()
+        + ",\"gameEnd\":false}", MoveServer.answer("state=0&turn=x"));
+    // Case 2 [x has the top row, game over]
+    assertEquals("{\"move\":-1,\"gameEnd\":true}",
+        MoveServer.answer("state=" + (7 + (24 << 9)) + "&turn=o"));
+    // Case 3 [every reachable position answered with bestMove()]
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+      String json = MoveServer.answer("state=" + board.state + "&turn="
+          + board.turn);
+      int move = board.gameEnd() ? -1 : board.bestMove();
+      assertTrue(json, json.startsWith("{\"move\":" + move + ","));
+    }
+    // Case 4 [out of range, a square taken twice, bad turn -> null]
+    assertNull(MoveServer.answer("state=262144&turn=x"));
+    assertNull(MoveServer.answer("state=513&turn=x"));
+    assertNull(MoveServer.answer("state=0&turn=z"));
+    assertNull(MoveServer.answer(null));
+  }
+
+  @Test // 3
+  public void testServer() throws Exception {                         // Server expected to answer with status:
+    HttpServer server = MoveServer.start(0);
+    try {
+      String base = "http://localhost:" + server.getAddress().getPort();
+      // Case 1 [200 and the JSON answer]
+      HttpURLConnection get = open(base + "/move?state=528&turn=x");
+      assertEquals(200, get.getResponseCode());
+      try (InputStream in = get.getInputStream()) {
+        assertEquals(MoveServer.answer("state=528&turn=x"),
+            new String(in.readAllBytes(), StandardCharsets.US_ASCII));
+      }
+      // Case 2 [400 for an invalid state]
+      assertEquals(400, open(base + "/move?state=513&turn=x")
+          .getResponseCode());
+      // Case 3 [405 for anything but GET]
+      HttpURLConnection post = open(base + "/move?state=0&turn=x");
+      post.setRequestMethod("POST");
+      assertEquals(405, post.getResponseCode());
+    } finally {
+      server.stop(0);
+    }
+  }
+
+
+  static HttpURLConnection open(String url) throws Exception {
+    return (HttpURLConnection) URI.create(url).toURL().openConnection();
+  }
+}
@@ -0,0 +1,78 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: PerfectPlayTableTest.java contains assertion method based tests of the PerfectPlayTable class  **
+********************** contained in PerfectPlayTable.java. The table is checked against BinaryBoard.minimaxmove() (the**
+********************** reference solver) for every position reachable from an empty board.                           **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testPositions()     asserts the table holds exactly the 5,478 positions reachable from new BinaryBoard().       **
+** 2) testMinimaxmove()   asserts minimaxmove()   returns the same array as BinaryBoard.minimaxmove() for every       **
+**                                                reachable position.                                                 **
+** 3) testBestMove()      asserts bestMove()      returns the same move with and without the table, and falls back to **
+**                                                minimaxmove() for positions missing from the table.                 **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class PerfectPlayTableTest {
+
+  static List<BinaryBoard> reachable() {                              // Every position reachable from an empty board
+    List<BinaryBoard> boards = new ArrayList<BinaryBoard>();          // with x moving first, each listed once
+    Set<Integer> seen = new HashSet<Integer>();
+    collect(new BinaryBoard(), boards, seen);
+    return boards;
+  }
+
+  private static void collect(BinaryBoard board, List<BinaryBoard> boards,
+      Set<Integer> seen) {
+    if (!seen.add(board.state)) {                                     // Turn follows from the state when x starts
+      return;
+    }
+    boards.add(board);
+    if (board.gameEnd()) {                                            // No moves are made once the game is over
+      return;
+    }
+    for (int i = 0; i < 9; i++) {
+      if ((board.possibleMoves() & (1 << i)) != 0) {
+        collect(board.move(i), boards, seen);
+      }
+    }
+  }
+
+  @Test // 1
+  public void testPositions() throws Exception {                      // Table expected to contain:
+    PerfectPlayTable table = PerfectPlayTable.get();
+    assertEquals(5478, table.positions);                              // all 5,478 reachable positions
+    for (BinaryBoard board : reachable()) {
+      assertTrue(table.contains(board.state, board.turn));
+    }
+    assertFalse(table.contains(2560, 'o'));                           // but not positions where o moved first
+  }
+
+  @Test // 2
+  public void testMinimaxmove() throws Exception {                    // minimaxmove expected to return the same
+    PerfectPlayTable table = PerfectPlayTable.get();                  // array as the reference solver everywhere
+    for (BinaryBoard board : reachable()) {
+      assertArrayEquals("state " + board.state, board.minimaxmove(),
+          table.minimaxmove(board.state, board.turn));
+    }
+  }
+
+  @Test // 3
+  public void testBestMove() throws Exception {                       // bestMove expected to return:
+    for (BinaryBoard board : reachable()) {
+      assertEquals(board.bestMove(true), board.bestMove(false));      // the same move by lookup as by search
+    }
+    assertEquals(1, new BinaryBoard(2560, 'o').bestMove(true));       // a searched move when position is not in table
+  }
+}
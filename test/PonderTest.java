@@ -0,0 +1,111 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: PonderTest.java contains assertion method based tests of the Ponder class contained in         **
+********************** Ponder.java. testCancel() holds the only thread of its executor while it cancels, so every    **
+********************** answer is still queued, and counts the searches that run with SearchMetrics.                 **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testStart()         asserts start()         queues an answer for every open move, each equal to bestMove().     **
+** 2) testReply()         asserts reply()         returns the pondered future for the pondered position, -1 for a     **
+**                                                move that ends the game, and computes any other position on demand. **
+** 3) testCancel()        asserts cancel()        cancels pending answers, and searches not yet started never run.    **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class PonderTest {
+
+  @Test // 1
+  public void testStart() throws Exception {                          // start expected to queue:
+    ExecutorService executor = Ponder.executor();
+    try {
+      Ponder ponder = new Ponder(executor);
+      BinaryBoard board = new BinaryBoard().move(4).move(0);          // x center, o top left
+      ponder.start(board);
+      for (int i = 0; i < 9; i++) {
+        if ((board.possibleMoves() & 1 << i) == 0) {                  // no answer for a taken position
+          assertNull(ponder.replies[i]);
+        } else {                                                      // the computer's answer to every open one
+          assertEquals(board.move(i).bestMove(),
+              (int) ponder.replies[i].get(10, TimeUnit.SECONDS));
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test // 2
+  public void testReply() throws Exception {                          // reply expected to return:
+    ExecutorService executor = Ponder.executor();
+    try {
+      Ponder ponder = new Ponder(executor);
+      BinaryBoard board = new BinaryBoard().move(0).move(4).move(1)   // x top left and top middle, o center and
+          .move(3);                                                   // middle left
+      ponder.start(board);
+      // Case 1 [the pondered future itself]
+      assertSame(ponder.replies[5], ponder.reply(board, 5));
+      assertEquals(board.move(5).bestMove(), (int) ponder.reply(board, 5)
+          .get(10, TimeUnit.SECONDS));
+      // Case 2 [x takes the top right and wins, nothing to answer]
+      assertEquals(-1, (int) ponder.reply(board, 2).get());
+      // Case 3 [a position that was not pondered, searched now]
+      BinaryBoard other = new BinaryBoard().move(8);
+      CompletableFuture<Integer> reply = ponder.reply(other, 4);
+      assertFalse(reply == ponder.replies[4]);
+      assertEquals(other.move(4).bestMove(),
+          (int) reply.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test // 3
+  public void testCancel() throws Exception {                         // cancel expected to stop pending answers
+    ExecutorService single = Executors.newSingleThreadExecutor();
+    final CountDownLatch gate = new CountDownLatch(1);
+    try {
+      single.execute(() -> {                                          // Holds the only thread, so every answer is
+        try {                                                         // still queued when cancel() is called
+          gate.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      SearchMetrics.get().reset();
+      SearchMetrics.enable();                                         // Counts the searches that actually run
+      Ponder ponder = new Ponder(single);
+      BinaryBoard board = new BinaryBoard();
+      ponder.start(board);
+      CompletableFuture<?>[] pending = ponder.replies.clone();
+      ponder.cancel();
+      for (CompletableFuture<?> reply : pending) {
+        assertTrue(reply.isCancelled());
+      }
+      assertNull(ponder.replies[4]);                                  // Position forgotten, a new reply is searched
+      CompletableFuture<Integer> reply = ponder.reply(board, 4);
+      assertFalse(reply.isDone());
+      gate.countDown();
+      assertEquals(board.move(4).bestMove(),
+          (int) reply.get(10, TimeUnit.SECONDS));
+      single.shutdown();
+      assertTrue(single.awaitTermination(10, TimeUnit.SECONDS));
+      assertEquals(2, SearchMetrics.get().getCalls());                // Only the new reply and the check above ran
+    } finally {
+      SearchMetrics.disable();
+      SearchMetrics.get().reset();
+      single.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: SearchMetricsTest.java contains assertion method based tests of the SearchMetrics class        **
+********************** contained in SearchMetrics.java and of the counters Search keeps for it.                      **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testCounters()      asserts Search          counts won, drawn and total positions, cutoffs and depth.           **
+** 2) testBestMove()      asserts bestMove()      returns the same moves enabled as disabled and records each call.   **
+** 3) testMXBean()        asserts enable()        registers the MXBean, whose totals and histograms match the calls.  **
+** 4) testEvents()        asserts bestMove()      commits a SearchEvent per call to a running JFR recording.          **
+** 5) testBucket()        asserts bucket()        returns the number of bits in the value.                            **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class SearchMetricsTest {
+
+  @Test // 1
+  public void testCounters() throws Exception {                       // Search expected to count:
+    // Case 1 [x has won, the top position is the only one visited]
+    Search search = new Search();
+    search.minimax(7 + (24 << 9), 'o');
+    assertEquals(1, search.nodes);
+    assertEquals(1, search.xWins);
+    assertEquals(0, search.maxDepth);
+    // Case 2 [empty board: every kind of end reached, all 9 moves deep]
+    search = new Search();
+    search.minimax(0, 'x');
+    assertTrue(search.xWins > 0 && search.oWins > 0 && search.draws > 0);
+    assertTrue(search.cutoffs > 0);
+    assertEquals(9, search.maxDepth);
+    assertTrue(search.nodes > search.xWins + search.oWins + search.draws);
+  }
+
+  @Test // 2
+  public void testBestMove() throws Exception {                       // Instrumented bestMove expected to return the
+    SearchMetrics metrics = SearchMetrics.get();                      // same moves and count every call
+    try {
+      metrics.reset();
+      SearchMetrics.enable();
+      List<BinaryBoard> boards = PerfectPlayTableTest.reachable();
+      long searched = 0;
+      for (BinaryBoard board : boards) {
+        if (board.gameEnd()) {
+          continue;
+        }
+        int fromTable = board.bestMove(true);
+        int fromSearch = board.bestMove(false);
+        searched++;
+        SearchMetrics.disable();
+        assertEquals(board.bestMove(false), fromSearch);
+        assertEquals(board.bestMove(true), fromTable);
+        SearchMetrics.enable();
+      }
+      assertEquals(2 * searched, metrics.getCalls());
+      assertEquals(searched, metrics.getTableHits());
+      assertTrue(metrics.getNodes() >= searched);
+      assertEquals(9, metrics.getMaxDepth());
+    } finally {
+      SearchMetrics.disable();
+      metrics.reset();
+    }
+  }
+
+  @Test // 3
+  public void testMXBean() throws Exception {                         // MXBean expected to report the calls made
+    SearchMetrics metrics = SearchMetrics.get();
+    try {
+      metrics.reset();
+      SearchMetrics.enable();
+      for (int i = 0; i < 9; i++) {
+        new BinaryBoard().move(i).bestMove(false);
+      }
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(SearchMetrics.NAME);
+      assertEquals(9L, server.getAttribute(name, "Calls"));
+      assertEquals(metrics.getNodes(), server.getAttribute(name, "Nodes"));
+      long latencies = 0;
+      long nodeCounts = 0;
+      for (long count : (long[]) server.getAttribute(name, "LatencyHistogram")) {
+        latencies += count;
+      }
+      for (long count : (long[]) server.getAttribute(name, "NodeHistogram")) {
+        nodeCounts += count;
+      }
+      assertEquals(9, latencies);                                     // Every call in one bucket of each histogram
+      assertEquals(9, nodeCounts);
+      double p50 = (Double) server.getAttribute(name, "LatencyP50Micros");
+      double p99 = (Double) server.getAttribute(name, "LatencyP99Micros");
+      assertTrue(p50 > 0 && p50 <= p99);
+      server.invoke(name, "reset", null, null);
+      assertEquals(0L, server.getAttribute(name, "Calls"));
+    } finally {
+      SearchMetrics.disable();
+      metrics.reset();
+    }
+  }
+
+  @Test // 4
+  public void testEvents() throws Exception {                         // JFR expected to record one event per call
+    File file = File.createTempFile("search", ".jfr");
+    Recording recording = new Recording();
+    try {
+      recording.enable(SearchEvent.class);
+      recording.start();
+      SearchMetrics.enable();
+      new BinaryBoard().bestMove();                                   // From the table
+      new BinaryBoard().move(4).bestMove(false);                      // Searched
+      SearchMetrics.disable();
+      new BinaryBoard().bestMove();                                   // Not recorded
+      recording.stop();
+      recording.dump(file.toPath());
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file.toPath());
+      assertEquals(2, events.size());
+      RecordedEvent lookup = events.get(0);
+      RecordedEvent searched = events.get(1);
+      assertTrue(lookup.getBoolean("table"));
+      assertEquals(0, lookup.getInt("state"));
+      assertEquals(new BinaryBoard().bestMove(), lookup.getInt("move"));
+      assertFalse(searched.getBoolean("table"));
+      assertEquals(16, searched.getInt("state"));
+      assertEquals('o', searched.getChar("turn"));
+      assertTrue(searched.getLong("nodes") > 0);
+      assertEquals(8, searched.getInt("maxDepth"));
+    } finally {
+      SearchMetrics.disable();
+      SearchMetrics.get().reset();
+      recording.close();
+      file.delete();
+    }
+  }
+
+  @Test // 5
+  public void testBucket() throws Exception {                         // bucket expected to return:
+    assertEquals(0, SearchMetrics.bucket(0));                         // 0 for 0
+    assertEquals(1, SearchMetrics.bucket(1));                         // 1 for 1
+    assertEquals(3, SearchMetrics.bucket(4));                         // 3 for 4 - 7
+    assertEquals(3, SearchMetrics.bucket(7));
+    assertEquals(SearchMetrics.BUCKETS - 1,                           // the last bucket for anything larger
+        SearchMetrics.bucket(Long.MAX_VALUE));
+  }
+}
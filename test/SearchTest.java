@@ -0,0 +1,113 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: SearchTest.java contains assertion method based tests of the Search class contained in         **
+********************** Search.java. Scores and moves are checked against PerfectPlayTable, which solves every        **
+********************** reachable position independently of Search. The node count tests put an upper bound on the    **
+********************** positions visited, so a change that loses the α-β window or the move ordering fails here.     **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testMinimax()       asserts minimax()       returns the packed reference score and move for every reachable     **
+**                                                position, without and with a transposition table.                   **
+** 2) testBestMove()      asserts bestMove()      returns the same move as BinaryBoard.bestMove() without the table.  **
+** 3) testNodes()         asserts a transposition table visits fewer positions on the empty board and after every     **
+**                        first move.                                                                                 **
+** 4) testNodeBounds()    asserts the positions visited on the empty board, after every first move and over every     **
+**                        reachable position stay under fixed limits.                                                 **
+** 5) testAllocation()    asserts minimax() allocates nothing on the heap while searching (measured with the JVM's    **
+**                        per-thread allocation counter, the same one JFR allocation events are based on).            **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class SearchTest {
+
+  static final int[] FIRST_MOVE_NODES = {                             // Most positions visited after each first move
+      2500, 2900, 2600, 3500, 1800, 3200, 2700, 3200, 3200 };         // (about 10% over today's counts)
+
+  @Test // 1
+  public void testMinimax() throws Exception {                        // minimax expected to return reference score
+    PerfectPlayTable table = PerfectPlayTable.get();                  // and move
+    Search cached = new Search(new TranspositionTable());             // One table shared by every search, so later
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {      // searches start from earlier bound entries
+      int score = table.score(board.state, board.turn);
+      int move = table.bestMove(board.state, board.turn);
+      int plain = new Search().minimax(board.state, board.turn);
+      assertEquals(score, Search.score(plain));
+      assertEquals(move, Search.move(plain));
+      int packed = cached.minimax(board.state, board.turn);
+      assertEquals(score, Search.score(packed));
+      assertEquals(move, Search.move(packed));
+    }
+  }
+
+  @Test // 2
+  public void testBestMove() throws Exception {                       // bestMove expected to return the same move as
+    Search search = new Search();                                     // BinaryBoard.bestMove() searching
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+      assertEquals(board.bestMove(false), search.bestMove(board));
+    }
+  }
+
+  @Test // 3
+  public void testNodes() throws Exception {                          // Transposition table expected to visit fewer
+    for (int i = -1; i < 9; i++) {                                    // positions for every opening
+      BinaryBoard board = new BinaryBoard();
+      if (i >= 0) {
+        board = board.move(i);
+      }
+      Search plain = new Search();
+      Search cached = new Search(new TranspositionTable());
+      plain.minimaxmove(board);
+      cached.minimaxmove(board);
+      assertTrue("first move " + i, cached.nodes < plain.nodes);
+    }
+  }
+
+  @Test // 4
+  public void testNodeBounds() throws Exception {                     // Positions visited expected to stay under:
+    Search search = new Search();
+    search.minimax(0, 'x');
+    assertTrue(search.nodes + " nodes", search.nodes <= 20000);       // 20,000 for the empty board (the original
+    Search cached = new Search(new TranspositionTable());             // search visited 94,978)
+    cached.minimax(0, 'x');
+    assertTrue(cached.nodes + " nodes", cached.nodes <= 1100);        // 1,100 with a transposition table
+    for (int i = 0; i < 9; i++) {
+      search = new Search();
+      search.minimax(new BinaryBoard().move(i).state, 'o');
+      assertTrue("first move " + i + ": " + search.nodes + " nodes",  // the limits above after every first move
+          search.nodes <= FIRST_MOVE_NODES[i]);
+    }
+    search = new Search();
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+      search.minimax(board.state, board.turn);
+    }
+    assertTrue(search.nodes + " nodes", search.nodes <= 280000);      // 280,000 for every reachable position
+  }
+
+  @Test // 5
+  public void testAllocation() throws Exception {                     // Searching expected to allocate 0 bytes
+    com.sun.management.ThreadMXBean threads = (com.sun.management
+        .ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long id = Thread.currentThread().threadId();
+    Search search = new Search();
+    for (int i = 0; i < 10; i++) {                                    // Warm up (and load every class used)
+      search.minimax(0, 'x');
+      search.minimax(16, 'o');
+      threads.getThreadAllocatedBytes(id);
+    }
+    long nodes = search.nodes;
+    long before = threads.getThreadAllocatedBytes(id);
+    search.minimax(0, 'x');
+    search.minimax(16, 'o');
+    long allocated = threads.getThreadAllocatedBytes(id) - before;
+    assertTrue(search.nodes - nodes > 10000);                         // over 10,000 positions searched
+    assertEquals(0, allocated);                                       // without a single byte allocated
+  }
+}
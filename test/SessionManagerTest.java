@@ -0,0 +1,266 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: SessionManagerTest.java contains assertion method based tests of the SessionManager class      **
+********************** contained in SessionManager.java. Time is supplied by the tests, so eviction is deterministic. **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testCreate()        asserts create()        returns distinct ids of empty boards with x to move.                **
+** 2) testMove()          asserts move()          adds moves in turn and rejects the wrong player, taken positions,   **
+**                                                finished games and unknown ids.                                     **
+** 3) testReply()         asserts reply()         makes the same move as BinaryBoard.bestMove().                      **
+** 4) testClose()         asserts close()         frees the slot, and the old id never reaches the game reusing it.   **
+** 5) testEvictIdle()     asserts evictIdle()     frees only the sessions idle for longer than the TTL.               **
+** 6) testLeastRecent()   asserts create()        evicts the least recently used session once the manager is full.    **
+** 7) testStress()        asserts concurrent moves, creates and closes from 8 threads leave every board consistent    **
+**                                                with the moves that were accepted for it.                           **
+** 8) testLog()           asserts a GameLog       gets every game once, in the order the players moved: as it ends,   **
+**                                                or as it is closed or evicted unfinished.                           **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class SessionManagerTest {
+
+  @Test // 1
+  public void testCreate() throws Exception {                         // create expected to return:
+    SessionManager sessions = new SessionManager(1000, 60);
+    Set<Long> ids = new HashSet<Long>();
+    for (int i = 0; i < 1000; i++) {
+      long id = sessions.create();
+      assertTrue(ids.add(id));                                        // a new id every time
+      BinaryBoard board = sessions.board(id);
+      assertEquals(0, board.state);                                   // for an empty board
+      assertEquals('x', board.turn);                                  // with x to move
+    }
+    assertEquals(1000, sessions.size());
+  }
+
+  @Test // 2
+  public void testMove() throws Exception {                           // move expected to return:
+    SessionManager sessions = new SessionManager(64, 60);
+    long id = sessions.create();
+    // Case 1 [x center, o top left -> new states]
+    assertEquals(16, sessions.move(id, 4, 'x'));
+    assertEquals(16 + 512, sessions.move(id, 0, 'o'));
+    assertEquals('x', sessions.board(id).turn);
+    // Case 2 [o again, out of turn]
+    assertEquals(SessionManager.WRONG_TURN, sessions.move(id, 1, 'o'));
+    // Case 3 [x on the center or top left, both taken, or off the board]
+    assertEquals(SessionManager.OCCUPIED, sessions.move(id, 4, 'x'));
+    assertEquals(SessionManager.OCCUPIED, sessions.move(id, 0, 'x'));
+    assertEquals(SessionManager.OCCUPIED, sessions.move(id, 9, 'x'));
+    // Case 4 [x wins on the middle column, no more moves]
+    sessions.move(id, 1, 'x');
+    sessions.move(id, 2, 'o');
+    sessions.move(id, 7, 'x');
+    assertTrue(sessions.board(id).win('x'));
+    assertEquals(SessionManager.GAME_OVER, sessions.move(id, 8, 'o'));
+    // Case 5 [ids never handed out]
+    assertEquals(SessionManager.NO_SESSION, sessions.move(id + 1, 0, 'x'));
+    assertEquals(SessionManager.NO_SESSION, sessions.move(-1, 0, 'x'));
+    assertEquals(SessionManager.NO_SESSION,
+        sessions.move(1L << 32 | (int) id, 0, 'x'));
+  }
+
+  @Test // 3
+  public void testReply() throws Exception {                          // reply expected to make bestMove()
+    SessionManager sessions = new SessionManager(64, 60);
+    long id = sessions.create();
+    sessions.move(id, 0, 'x');
+    BinaryBoard board = sessions.board(id);
+    int best = board.bestMove();
+    assertEquals(best, sessions.reply(id));
+    assertEquals(board.move(best).state, sessions.board(id).state);
+    while (sessions.reply(id) >= 0) {                                 // Plays itself to the end (always a draw)
+    }
+    assertTrue(sessions.board(id).gameEnd());
+    assertFalse(sessions.board(id).win('x') || sessions.board(id).win('o'));
+    assertEquals(SessionManager.GAME_OVER, sessions.reply(id));
+  }
+
+  @Test // 4
+  public void testClose() throws Exception {                          // close expected to free the slot for good
+    SessionManager sessions = new SessionManager(64, 60);
+    long id = sessions.create();
+    sessions.move(id, 4, 'x');
+    assertTrue(sessions.close(id));
+    assertFalse(sessions.close(id));
+    assertEquals(0, sessions.size());
+    assertNull(sessions.board(id));
+    long reused = sessions.create();                                  // Same slot, next generation
+    assertEquals((int) id, (int) reused);
+    assertTrue(reused != id);
+    assertEquals(SessionManager.NO_SESSION, sessions.move(id, 0, 'x'));
+    assertEquals(0, sessions.board(reused).state);
+  }
+
+  @Test // 5
+  public void testEvictIdle() throws Exception {                      // evictIdle expected to free:
+    final AtomicLong time = new AtomicLong();
+    SessionManager sessions = new SessionManager(1000, 10, time::get);
+    long idle = sessions.create();
+    long active = sessions.create();
+    time.addAndGet(5000);
+    sessions.move(active, 4, 'x');
+    // Case 1 [nothing idle for over 10 seconds yet]
+    time.addAndGet(5000);
+    assertEquals(0, sessions.evictIdle());
+    // Case 2 [only the session unused for 12 seconds]
+    time.addAndGet(2000);
+    assertEquals(1, sessions.evictIdle());
+    assertNull(sessions.board(idle));
+    assertEquals(16, sessions.board(active).state);
+    assertEquals(1, sessions.size());
+    // Case 3 [a sweep run while a move reads the clock never frees the session the move went through in]
+    final boolean[] sweep = new boolean[1];
+    final SessionManager[] racing = new SessionManager[1];
+    racing[0] = new SessionManager(64, 10, () -> {
+      if (sweep[0]) {                                                 // Once, from inside move()
+        sweep[0] = false;
+        racing[0].evictIdle();
+      }
+      return time.get();
+    });
+    long id = racing[0].create();
+    time.addAndGet(20000);
+    sweep[0] = true;
+    int result = racing[0].move(id, 4, 'x');
+    assertFalse(sweep[0]);
+    assertTrue(result == SessionManager.NO_SESSION
+        || racing[0].board(id) != null);
+  }
+
+  @Test // 6
+  public void testLeastRecent() throws Exception {                    // Full manager expected to evict the session
+    final AtomicLong time = new AtomicLong();                         // unused for longest
+    SessionManager sessions = new SessionManager(64, 600, time::get);
+    long[] ids = new long[sessions.capacity()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = sessions.create();
+      time.addAndGet(1000);
+    }
+    sessions.move(ids[0], 4, 'x');                                    // The first game is now the most recent, the
+    long id = sessions.create();                                      // second the least
+    assertNull(sessions.board(ids[1]));
+    assertNotNull(sessions.board(ids[0]));
+    assertNotNull(sessions.board(id));
+    assertEquals(ids.length, sessions.size());
+  }
+
+  @Test // 7
+  public void testStress() throws Exception {                         // Concurrent use expected to keep every board
+    final SessionManager sessions = new SessionManager(4096, 600);    // consistent with its accepted moves
+    final long[] ids = new long[1024];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = sessions.create();
+    }
+    final AtomicIntegerArray accepted = new AtomicIntegerArray(ids.length);
+    Thread[] threads = new Thread[8];
+    for (int t = 0; t < threads.length; t++) {
+      final int seed = t;
+      threads[t] = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          Random random = new Random(seed);
+          for (int n = 0; n < 200000; n++) {
+            int g = random.nextInt(ids.length);
+            char player = random.nextBoolean() ? 'x' : 'o';
+            if (sessions.move(ids[g], random.nextInt(9), player) >= 0) {
+              accepted.incrementAndGet(g);
+            }
+            if (n % 16 == 0) {                                        // Churn other slots in the meantime
+              sessions.close(sessions.create());
+            }
+          }
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    int finished = 0;
+    for (int g = 0; g < ids.length; g++) {
+      BinaryBoard board = sessions.board(ids[g]);
+      int x = Integer.bitCount(board.state & 511);
+      int o = Integer.bitCount(board.state >>> 9);
+      assertEquals(0, board.state & board.state >>> 9);               // No position taken twice
+      assertEquals(accepted.get(g), x + o);                           // One position per accepted move
+      assertTrue(x == o || x == o + 1);                               // Moves alternated, x first
+      assertEquals(x == o ? 'x' : 'o', board.turn);
+      BinaryBoard last = new BinaryBoard(board.state, board.turn);    // Only one winner, and nobody moved after it
+      assertFalse(last.win('x') && last.win('o'));
+      assertFalse(last.win('x') && x == o);
+      assertFalse(last.win('o') && x != o);
+      finished += board.gameEnd() ? 1 : 0;
+    }
+    assertTrue(finished > ids.length / 2);                            // Most games were played to the end
+    assertEquals(ids.length, sessions.size());
+  }
+
+
+  @Test // 8
+  public void testLog() throws Exception {                            // GameLog expected to get every game:
+    Path directory = Files.createTempDirectory("sessions");
+    try {
+      final AtomicLong time = new AtomicLong();
+      GameLog log = new GameLog(directory, 1000);
+      SessionManager sessions = new SessionManager(4096, 10, log, time::get);
+      List<Long> expected = new ArrayList<Long>();
+      Random random = new Random(8);
+      int[] moves = new int[9];
+      // Case 1 [random games played to the end, logged once as their last move is made]
+      for (int g = 0; g < 2000; g++) {
+        long id = sessions.create();
+        BinaryBoard board = new BinaryBoard();
+        int count = 0;
+        while (!board.gameEnd()) {
+          int move = random.nextInt(9);
+          if ((board.possibleMoves() >>> move & 1) != 0) {
+            assertTrue(sessions.move(id, move, board.turn) >= 0);
+            board = board.move(move);
+            moves[count++] = move;
+          }
+        }
+        expected.add(GameLog.record(moves, count));
+        if (g % 2 == 0) {                                             // Already logged, not again
+          assertTrue(sessions.close(id));
+        }
+      }
+      // Case 2 [unfinished games, logged as they are closed or evicted]
+      long closed = sessions.create();
+      sessions.move(closed, 4, 'x');
+      sessions.move(closed, 0, 'o');
+      sessions.close(closed);
+      expected.add(GameLog.record(new int[] { 4, 0 }, 2));
+      long idle = sessions.create();
+      sessions.move(idle, 8, 'x');
+      time.addAndGet(20000);
+      assertEquals(1001, sessions.evictIdle());                       // The odd finished games and the idle one
+      expected.add(GameLog.record(new int[] { 8 }, 1));
+      log.close();
+      GameLogReader reader = GameLogReader.open(directory);
+      assertEquals(expected.size(), reader.count);
+      for (int r = 0; r < expected.size(); r++) {
+        assertEquals((long) expected.get(r), reader.record(r));
+      }
+    } finally {
+      GameLogTest.delete(directory);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: SymmetryTest.java contains assertion method based tests of the Symmetry class contained in     **
+********************** Symmetry.java.                                                                                 **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testTransform()     asserts transform()     moves x's and o's positions to the rotated or reflected indexes.    **
+** 2) testInverse()       asserts inverse()       returns a transform that maps every state and move back.            **
+** 3) testCanonical()     asserts canonical()     returns the same canonical state for all 8 transforms of a state,   **
+**                                                and the transform that produces it.                                 **
+** 4) testWin()           asserts win()           is unchanged by every transform (the score is symmetric).           **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class SymmetryTest {
+
+  @Test // 1
+  public void testTransform() throws Exception {                      // transform expected to return:
+    // Case 1 [x top left, rotated 90 clockwise -> top right]
+    assertEquals(4, Symmetry.transform(1, 1));
+    // Case 2 [o top left (512), mirrored left to right -> o top right]
+    assertEquals(2048, Symmetry.transform(512, 4));
+    // Case 3 [x top row (7), rotated 90 clockwise -> right column]
+    assertEquals(292, Symmetry.transform(7, 1));
+    // Case 4 [center never moves]
+    for (int t = 0; t < Symmetry.COUNT; t++) {
+      assertEquals(16, Symmetry.transform(16, t));
+      assertEquals(4, Symmetry.move(4, t));
+    }
+  }
+
+  @Test // 2
+  public void testInverse() throws Exception {                        // inverse expected to undo every transform
+    for (int t = 0; t < Symmetry.COUNT; t++) {
+      int u = Symmetry.inverse(t);
+      for (int i = 0; i < 9; i++) {
+        assertEquals(i, Symmetry.move(Symmetry.move(i, t), u));
+      }
+      for (int state = 0; state < (1 << 18); state += 97) {
+        int other = Symmetry.transform(state, t);
+        assertEquals(state, Symmetry.transform(other, u));
+      }
+    }
+  }
+
+  @Test // 3
+  public void testCanonical() throws Exception {                      // canonical expected to return:
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+      int canonical = Symmetry.canonical(board.state);
+      assertEquals(canonical >>> 3,                                   // the transform of state given in the low bits
+          Symmetry.transform(board.state, canonical & 7));
+      for (int t = 0; t < Symmetry.COUNT; t++) {                      // the same value for every transform of state
+        int other = Symmetry.transform(board.state, t);
+        assertEquals(canonical >>> 3, Symmetry.canonical(other) >>> 3);
+        assertTrue(canonical >>> 3 <= other);                         // and no transform is smaller
+      }
+    }
+  }
+
+  @Test // 4
+  public void testWin() throws Exception {                            // win expected to be symmetric
+    for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+      for (int t = 0; t < Symmetry.COUNT; t++) {
+        BinaryBoard other = new BinaryBoard(
+            Symmetry.transform(board.state, t), board.turn);
+        assertEquals(board.win('x'), other.win('x'));
+        assertEquals(board.win('o'), other.win('o'));
+      }
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: TablebaseTest.java contains assertion method based tests of the Tablebase class contained in   **
+********************** Tablebase.java. Each test generates its tables into temporary files (4,4,4 takes a few         **
+********************** seconds and 43 MB) and deletes them afterwards.                                               **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testTicTacToe()     asserts score()         matches PerfectPlayTable for every reachable 3,3,3 position, and    **
+**                                                bestMove() plays the quickest win or slowest loss (lowest index     **
+**                                                among equals), which need not be BinaryBoard.bestMove()'s move.     **
+** 2) testOpen()          asserts open()          maps a generated file and rejects one that is not a tablebase, is   **
+**                                                cut short or has m, n or k out of range.                            **
+** 3) testFourByFour()    asserts verify()        finds no 4,4,4 sample that disagrees with search, the empty board   **
+**                                                is a draw, and MnkSearch answers from the tablebase once given one. **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class TablebaseTest {
+
+  /* Scores a position for the player to move as generate() does, a win
+  ** in d moves 100 - d, a loss -(100 - d) and a draw 0, searched to the
+  ** end with the scores of positions already seen kept in seen. */
+  static int quickest(BinaryBoard board, Map<Integer, Integer> seen) {
+    if (board.gameEnd()) {
+      return board.win('x') || board.win('o') ? -100 : 0;             // The player who just moved won
+    }
+    Integer key = board.state << 1 | (board.turn == 'o' ? 1 : 0);
+    Integer known = seen.get(key);
+    if (known != null) {
+      return known;
+    }
+    int best = Integer.MIN_VALUE;
+    for (int i = 0; i < 9; i++) {
+      if ((board.possibleMoves() >>> i & 1) != 0) {
+        best = Math.max(best, after(quickest(board.move(i), seen)));
+      }
+    }
+    seen.put(key, best);
+    return best;
+  }
+
+
+  static int after(int child) {                                       // The mover's score from the next position's
+    return child > 0 ? -child + 1 : child < 0 ? -child - 1 : 0;       // (one move further from the end)
+  }
+
+  @Test // 1
+  public void testTicTacToe() throws Exception {                      // score expected to match PerfectPlayTable
+    Path file = Files.createTempFile("tablebase", ".bin");
+    try {
+      Tablebase.generate(3, 3, 3, file);
+      Tablebase tablebase = Tablebase.open(file);
+      Map<Integer, Integer> seen = new HashMap<Integer, Integer>();
+      int differ = 0;                                                 // Positions where BinaryBoard moves elsewhere
+      for (BinaryBoard board : PerfectPlayTableTest.reachable()) {
+        MnkBoard mnk = MnkBoard.of(board);
+        assertTrue(tablebase.contains(mnk));
+        int score = PerfectPlayTable.get().score(board.state, board.turn);
+        int forX = score > 50 ? 1 : score < -50 ? -1 : 0;             // Wins score 99 or 100, draws near 0
+        assertEquals(board.turn == 'x' ? forX : -forX,
+            tablebase.score(mnk));
+        int move = tablebase.bestMove(mnk);
+        if (board.gameEnd()) {
+          assertEquals(-1, move);
+        } else {                                                      // the move keeps the score
+          assertFalse(mnk.occupied(move));
+          assertEquals(tablebase.score(mnk),
+              -tablebase.score(mnk.move(move)));
+          int best = -1;                                              // and is the quickest win or slowest loss,
+          for (int i = 8; i >= 0; i--) {                              // the lowest index among equals
+            if ((board.possibleMoves() >>> i & 1) != 0 && (best < 0
+                || after(quickest(board.move(i), seen))
+                >= after(quickest(board.move(best), seen)))) {
+              best = i;
+            }
+          }
+          assertEquals(best, move);
+          differ += move != board.bestMove() ? 1 : 0;
+        }
+      }
+      // Case [BinaryBoard scores every forced win alike and takes the lowest index, so it can pick a slower win]
+      assertTrue(differ > 0);
+      BinaryBoard board = new BinaryBoard(70677, 'x');                // x wins at 6 now, or at 5 and then later
+      assertEquals(6, tablebase.bestMove(MnkBoard.of(board)));
+      assertTrue(board.move(6).win('x'));
+      assertEquals(5, board.bestMove());
+      // Case [o to move on the empty board, never reached]
+      MnkBoard empty = new MnkBoard(3, 3, 3);
+      empty.turn = 'o';
+      assertFalse(tablebase.contains(empty));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test // 2
+  public void testOpen() throws Exception {                           // open expected to:
+    Path file = Files.createTempFile("tablebase", ".bin");
+    try {
+      // Case 1 [map a generated file]
+      Tablebase.generate(4, 3, 3, file);
+      assertEquals(Tablebase.HEADER + 531441, Files.size(file));      // 3^12 entries
+      Tablebase tablebase = Tablebase.open(file);
+      assertEquals(4, tablebase.m);
+      assertEquals(3, tablebase.n);
+      assertEquals(3, tablebase.k);
+      assertEquals(0, tablebase.verify(200, 1));
+      // Case 2 [reject a file cut short]
+      byte[] bytes = Files.readAllBytes(file);
+      Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+      try {
+        Tablebase.open(file);
+        fail();
+      } catch (IOException e) {
+      }
+      // Case 3 [reject a file that is not a tablebase]
+      Files.write(file, new byte[64]);
+      try {
+        Tablebase.open(file);
+        fail();
+      } catch (IOException e) {
+      }
+      // Case 4 [reject a header with the magic number but m, n or k out of range]
+      for (int[] mnk : new int[][] { { 0, 3, 3 }, { 3, -1, 3 }, { 5, 4, 4 },
+          { 127, 127, 3 }, { 3, 3, 0 }, { 3, 3, 4 } }) {
+        bytes[4] = (byte) mnk[0];
+        bytes[5] = (byte) mnk[1];
+        bytes[6] = (byte) mnk[2];
+        Files.write(file, bytes);
+        try {
+          Tablebase.open(file);
+          fail();
+        } catch (IOException e) {
+        }
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test // 3
+  public void testFourByFour() throws Exception {                     // verify expected to find no disagreement
+    Path file = Files.createTempFile("tablebase", ".bin");
+    try {
+      Tablebase.generate(4, 4, 4, file);
+      Tablebase tablebase = Tablebase.open(file);
+      assertEquals(0, tablebase.verify(500, 42));
+      MnkBoard empty = new MnkBoard(4, 4, 4);
+      assertEquals(0, tablebase.score(empty));                        // 4,4,4 is a draw
+      // Case [MnkSearch answers from the tablebase, at once]
+      MnkSearch search = new MnkSearch(16);
+      search.tablebase = tablebase;
+      MnkBoard board = empty.move(5).move(0);
+      assertEquals(tablebase.bestMove(board),
+          search.bestMove(board, Integer.MAX_VALUE, 0));
+      assertEquals(0, search.nodes);
+      assertEquals(14, search.depth);
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: TournamentTest.java contains assertion method based tests of the Tournament class contained in **
+********************** Tournament.java and the agents in Agent.java.                                                 **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testNeverLoses()    asserts play()          never has MINIMAX lose, in either seat, and draws against itself.   **
+** 2) testCsv()           asserts play()          writes one line per game whose moves replay to the winner given,    **
+**                                                and totals that match the lines.                                    **
+** 3) testAgents()        asserts RANDOM, depth() and forName() return open positions, and depth() finds a win.       **
+** 4) testInvalidMove()   asserts play()          rethrows a taken position played as an IllegalStateException.       **
+** 5) testUnbeaten()      asserts play()          throws an IllegalStateException once the unbeaten agent loses.      **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.io.StringWriter;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class TournamentTest {
+
+  @Test // 1
+  public void testNeverLoses() throws Exception {                     // MINIMAX expected to:
+    // Case 1 [never lose as x]
+    Tournament tournament = new Tournament(Agent.MINIMAX, Agent.RANDOM, 4);
+    tournament.play(20000, null);
+    assertEquals(20000, tournament.games);
+    assertEquals(0, tournament.oWins);
+    assertTrue(tournament.xWins > 15000);                             // Random o loses almost every game
+    // Case 2 [never lose as o]
+    tournament = new Tournament(Agent.RANDOM, Agent.MINIMAX, 3);
+    tournament.play(20000, null);
+    assertEquals(20000, tournament.games);
+    assertEquals(0, tournament.xWins);
+    // Case 3 [draw against itself, or a depth 9 search]
+    tournament = new Tournament(Agent.MINIMAX, Agent.MINIMAX, 2);
+    tournament.play(1000, null);
+    assertEquals(1000, tournament.draws);
+    assertEquals(9000, tournament.moves);
+    tournament = new Tournament(Agent.depth(9), Agent.MINIMAX, 2);
+    tournament.play(10, null);
+    assertEquals(10, tournament.draws);
+  }
+
+  @Test // 2
+  public void testCsv() throws Exception {                            // CSV expected to hold:
+    StringWriter csv = new StringWriter();
+    Tournament tournament = new Tournament(Agent.RANDOM, Agent.RANDOM, 4);
+    int games = 3 * Tournament.CHUNK + 17;                            // Last chunk partly claimed
+    tournament.play(games, csv);
+    String[] lines = csv.toString().split("\n");
+    assertEquals("game,winner,moves", lines[0]);                      // a header
+    assertEquals(games + 1, lines.length);                            // and a line per game
+    boolean[] seen = new boolean[games];
+    long xWins = 0;
+    long draws = 0;
+    long moves = 0;
+    for (int i = 1; i < lines.length; i++) {
+      String[] fields = lines[i].split(",");
+      int game = Integer.parseInt(fields[0]);
+      assertFalse(seen[game]);                                        // each game once
+      seen[game] = true;
+      BinaryBoard board = new BinaryBoard();
+      for (char c : fields[2].toCharArray()) {                        // moves replaying to the end of the game
+        assertFalse(board.gameEnd());
+        board = board.move(c - '0');
+      }
+      assertTrue(board.gameEnd());
+      char winner = board.win('x') ? 'x' : board.win('o') ? 'o' : '-';
+      assertEquals(String.valueOf(winner), fields[1]);
+      xWins += winner == 'x' ? 1 : 0;
+      draws += winner == '-' ? 1 : 0;
+      moves += fields[2].length();
+    }
+    assertEquals(games, tournament.games);
+    assertEquals(xWins, tournament.xWins);
+    assertEquals(draws, tournament.draws);
+    assertEquals(games - xWins - draws, tournament.oWins);
+    assertEquals(moves, tournament.moves);
+    long timed = 0;                                                   // every move timed
+    for (long[] histogram : tournament.latency) {
+      for (long count : histogram) {
+        timed += count;
+      }
+    }
+    assertEquals(moves, timed);
+    assertTrue(tournament.percentile('x', 0.5)
+        <= tournament.percentile('x', 0.99));
+    assertTrue(tournament.report().startsWith("Tournament: " + games));
+  }
+
+  @Test // 3
+  public void testAgents() throws Exception {                         // Agents expected to:
+    // Case 1 [play only open positions]
+    BinaryBoard board = new BinaryBoard().move(4).move(0).move(8);    // x at 4 and 8, o at 0
+    for (String name : new String[] { "random", "minimax", "depth1",
+        "depth9" }) {
+      Agent agent = Agent.forName(name);
+      for (int i = 0; i < 100; i++) {
+        int move = agent.move(board);
+        assertTrue(move >= 0 && move < 9);
+        assertTrue((board.possibleMoves() >>> move & 1) != 0);
+      }
+    }
+    // Case 2 [take a win one move away]
+    board = new BinaryBoard().move(0).move(3).move(1).move(4);        // x (0 and 1) to move, o holds 3 and 4
+    assertEquals(2, Agent.depth(1).move(board));
+    assertEquals(2, Agent.MINIMAX.move(board));
+    // Case 3 [reject an unknown name]
+    try {
+      Agent.forName("depth10");
+      fail();
+    } catch (IllegalArgumentException e) {
+    }
+  }
+
+  @Test // 4
+  public void testInvalidMove() throws Exception {                    // play expected to throw for a taken position
+    Agent corner = board -> 0;
+    Tournament tournament = new Tournament(corner, corner, 2);
+    try {
+      tournament.play(100, null);
+      fail();
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().startsWith("o played 0"));
+    }
+  }
+
+  @Test // 5
+  public void testUnbeaten() throws Exception {                       // play expected to throw once perfect play loses
+    Agent lowest = board -> Integer.numberOfTrailingZeros(
+        board.possibleMoves());                                       // Lowest open position, loses to MINIMAX
+    Tournament tournament = new Tournament(Agent.MINIMAX, lowest, 2);
+    tournament.play(10, null);                                        // MINIMAX winning is fine
+    assertEquals(10, tournament.xWins);
+    tournament.unbeaten = lowest;                                     // Stands in for a MINIMAX that loses
+    try {
+      tournament.play(10, null);
+      fail();
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().startsWith("perfect play (o) lost game"));
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: UltimateBoardTest.java contains assertion method based tests of the UltimateBoard class        **
+********************** contained in UltimateBoard.java, against Naive: the rules written out directly on an array of  **
+********************** 81 chars, every sub-board and macro line scanned again whenever it is needed.                  **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testPerft()         asserts perft()         matches Naive and the published counts from the empty board, is 1  **
+**                                                at depth 0 and rejects a negative depth.                            **
+** 2) testRandomGames()   asserts moves()         and every other accessor match Naive along random games to the end, **
+**                                                and undo() restores the board play() changed.                       **
+** 3) testMidgamePerft()  asserts perft()         matches Naive from positions sampled along random games.            **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class UltimateBoardTest {
+
+  static final class Naive {                                          // Reference rules, nothing precomputed
+
+    static final int[][] LINES = { { 0, 1, 2 }, { 3, 4, 5 }, { 6, 7, 8 },
+        { 0, 3, 6 }, { 1, 4, 7 }, { 2, 5, 8 }, { 0, 4, 8 }, { 2, 4, 6 } };
+
+    char[] cells = new char[81];                                      // Sub-board b position c at 9b + c
+    char turn = 'x';
+    int forced = -1;
+
+
+    Naive() {
+      Arrays.fill(cells, ' ');
+    }
+
+
+    Naive copy() {
+      Naive copy = new Naive();
+      copy.cells = cells.clone();
+      copy.turn = turn;
+      copy.forced = forced;
+      return copy;
+    }
+
+
+    char subWinner(int b) {
+      for (int[] line : LINES) {
+        char c = cells[9 * b + line[0]];
+        if (c != ' ' && cells[9 * b + line[1]] == c
+            && cells[9 * b + line[2]] == c) {
+          return c;
+        }
+      }
+      return ' ';
+    }
+
+
+    boolean decided(int b) {
+      if (subWinner(b) != ' ') {
+        return true;
+      }
+      for (int c = 0; c < 9; c++) {
+        if (cells[9 * b + c] == ' ') {
+          return false;
+        }
+      }
+      return true;
+    }
+
+
+    char winner() {
+      for (int[] line : LINES) {
+        char w = subWinner(line[0]);
+        if (w != ' ' && subWinner(line[1]) == w && subWinner(line[2]) == w) {
+          return w;
+        }
+      }
+      return 0;
+    }
+
+
+    boolean over() {
+      if (winner() != 0) {
+        return true;
+      }
+      for (int b = 0; b < 9; b++) {
+        if (!decided(b)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+
+    List<Integer> moves() {
+      List<Integer> moves = new ArrayList<Integer>();
+      if (over()) {
+        return moves;
+      }
+      for (int b = 0; b < 9; b++) {
+        if ((forced < 0 || b == forced) && !decided(b)) {
+          for (int c = 0; c < 9; c++) {
+            if (cells[9 * b + c] == ' ') {
+              moves.add(9 * b + c);
+            }
+          }
+        }
+      }
+      return moves;
+    }
+
+
+    void play(int move) {
+      cells[move] = turn;
+      turn = turn == 'x' ? 'o' : 'x';
+      forced = decided(move % 9) ? -1 : move % 9;
+    }
+
+
+    long perft(int depth) {
+      List<Integer> moves = moves();
+      if (depth == 1) {
+        return moves.size();
+      }
+      long total = 0;
+      for (int move : moves) {
+        Naive next = copy();
+        next.play(move);
+        total += next.perft(depth - 1);
+      }
+      return total;
+    }
+  }
+
+
+  static void assertSame(Naive naive, UltimateBoard board) {          // Every accessor agrees with the reference
+    for (int b = 0; b < 9; b++) {
+      int state = 0;
+      for (int c = 0; c < 9; c++) {
+        char at = naive.cells[9 * b + c];
+        state |= at == 'x' ? 1 << c : at == 'o' ? 1 << c + 9 : 0;
+      }
+      assertEquals(state, board.sub(b));
+    }
+    assertEquals(naive.turn, board.turn());
+    assertEquals(naive.winner(), board.winner());
+    assertEquals(naive.over(), board.gameEnd());
+    if (!naive.over()) {
+      assertEquals(naive.forced, board.forced());
+    }
+    int[] list = new int[81];
+    int count = board.moves(list);
+    List<Integer> moves = new ArrayList<Integer>();
+    for (int j = 0; j < count; j++) {
+      moves.add(list[j]);
+    }
+    assertEquals(naive.moves(), moves);
+  }
+
+  @Test // 1
+  public void testPerft() throws Exception {                          // perft expected to match:
+    long[] published = { 81, 720, 6336, 55080, 473256, 4020960 };
+    UltimateBoard board = new UltimateBoard();
+    for (int depth = 1; depth <= 6; depth++) {
+      assertEquals(published[depth - 1], board.perft(depth));
+      if (depth <= 4) {                                               // Naive is slow past 4
+        assertEquals(new Naive().perft(depth), board.perft(depth));
+      }
+    }
+    assertEquals(new UltimateBoard().macro, board.macro);             // Everything taken back
+    assertArrayEquals(new long[3], board.boards);
+    // Case [depth 0 counts the position itself, a negative depth is rejected]
+    assertEquals(1, board.perft(0));
+    assertEquals(1, board.move(40).perft(0));
+    try {
+      board.perft(-1);
+      fail();
+    } catch (IllegalArgumentException e) {
+    }
+  }
+
+  @Test // 2
+  public void testRandomGames() throws Exception {                    // Accessors expected to match Naive:
+    Random random = new Random(81);
+    int[] list = new int[81];
+    int[] ends = new int[3];                                          // x wins, o wins, draws
+    for (int g = 0; g < 2000; g++) {
+      Naive naive = new Naive();
+      UltimateBoard board = new UltimateBoard();
+      assertSame(naive, board);
+      while (!board.gameEnd()) {
+        int count = board.moves(list);
+        int move = list[random.nextInt(count)];
+        // Case 1 [undo() restores exactly what play() changed]
+        long[] boards = board.boards.clone();
+        long macro = board.macro;
+        long before = board.play(move);
+        assertEquals(macro, before);
+        board.undo(move, before);
+        assertArrayEquals(boards, board.boards);
+        assertEquals(macro, board.macro);
+        // Case 2 [move() leaves the board as it was]
+        UltimateBoard next = board.move(move);
+        assertArrayEquals(boards, board.boards);
+        board = next;
+        naive.play(move);
+        assertSame(naive, board);
+      }
+      ends[board.winner() == 'x' ? 0 : board.winner() == 'o' ? 1 : 2]++;
+    }
+    for (int end : ends) {                                            // Every kind of ending was reached
+      assertTrue(end > 0);
+    }
+  }
+
+  @Test // 3
+  public void testMidgamePerft() throws Exception {                   // perft expected to match Naive mid game
+    Random random = new Random(9);
+    int[] list = new int[81];
+    for (int g = 0; g < 40; g++) {
+      Naive naive = new Naive();
+      UltimateBoard board = new UltimateBoard();
+      int plies = 5 + random.nextInt(50);
+      for (int p = 0; p < plies && !board.gameEnd(); p++) {
+        int move = list[random.nextInt(board.moves(list))];
+        board.play(move);
+        naive.play(move);
+      }
+      assertEquals(naive.perft(3), board.perft(3));
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/***********************************************************************************************************************
+************************************************************************************************************************
+******** LAST UPDATED: October 18, 2026                                                                               **
+********  DESCRIPTION: UltimateSearchTest.java contains assertion method based tests of the UltimateSearch class      **
+********************** contained in UltimateSearch.java, in positions sampled along seeded random games.             **
+** SUMMARY OF METHODS:                                                                                                **
+** 1) testWin()           asserts bestMove()      takes a win one move away whenever there is one.                    **
+** 2) testBlock()         asserts bestMove()      never lets the opponent win next move when another move stops it.   **
+** 3) testScore()         asserts bestMove()      scores the position as a full width negamax of the same depth.      **
+** 4) testBudget()        asserts bestMove()      keeps to a time budget and returns -1 once the game is over.        **
+************************************************************************************************************************
+***********************************************************************************************************************/
+
+package ttt;
+
+import static org.junit.Assert.*;                                     // Import junit Assert (contains assert methods)
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;                                                // Allows public void methods to run as test cases
+
+public class UltimateSearchTest {
+
+  static List<UltimateBoard> sample(int count, long seed) {           // Open positions 5 - 60 moves into random games
+    Random random = new Random(seed);
+    int[] list = new int[81];
+    List<UltimateBoard> found = new ArrayList<UltimateBoard>();
+    while (found.size() < count) {
+      UltimateBoard board = new UltimateBoard();
+      int plies = 5 + random.nextInt(56);
+      for (int p = 0; p < plies && !board.gameEnd(); p++) {
+        board.play(list[random.nextInt(board.moves(list))]);
+      }
+      if (!board.gameEnd()) {
+        found.add(board);
+      }
+    }
+    return found;
+  }
+
+
+  static boolean wins(UltimateBoard board, int move) {                // The mover wins by playing move
+    return board.move(move).winner() == board.turn();
+  }
+
+
+  static boolean loses(UltimateBoard board, int move) {               // The opponent can win right after move
+    UltimateBoard next = board.move(move);
+    int[] list = new int[81];
+    int count = next.moves(list);
+    for (int j = 0; j < count; j++) {
+      if (wins(next, list[j])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+
+  static int negamax(UltimateBoard board, int depth) {                // Full width, scored as UltimateSearch scores
+    if (board.winner() != 0) {
+      return -UltimateSearch.WIN;
+    }
+    int[] list = new int[81];
+    int count = board.moves(list);
+    if (count == 0) {
+      return 0;
+    }
+    if (depth == 0) {
+      int eval = UltimateSearch.evaluate(board);
+      return board.turn() == 'x' ? eval : -eval;
+    }
+    int best = Integer.MIN_VALUE;
+    for (int j = 0; j < count; j++) {
+      best = Math.max(best, -negamax(board.move(list[j]), depth - 1) - 1);
+    }
+    return best;
+  }
+
+  @Test // 1
+  public void testWin() throws Exception {                            // bestMove expected to:
+    UltimateSearch search = new UltimateSearch();
+    int[] list = new int[81];
+    int tested = 0;
+    for (UltimateBoard board : sample(3000, 1)) {
+      int count = board.moves(list);
+      boolean winnable = false;
+      for (int j = 0; j < count; j++) {
+        winnable |= wins(board, list[j]);
+      }
+      if (winnable) {
+        // Case 1 [take the win, and know it]
+        int move = search.bestMove(board, 4, 0);
+        assertTrue(board + " " + move, wins(board, move));
+        assertEquals(UltimateSearch.WIN - 1, search.score);
+        tested++;
+      }
+    }
+    assertTrue(tested >= 20);
+  }
+
+  @Test // 2
+  public void testBlock() throws Exception {                          // bestMove expected to:
+    UltimateSearch search = new UltimateSearch();
+    int[] list = new int[81];
+    int tested = 0;
+    for (UltimateBoard board : sample(3000, 2)) {
+      int count = board.moves(list);
+      int safe = 0;
+      int losing = 0;
+      for (int j = 0; j < count; j++) {
+        if (wins(board, list[j])) {
+          safe = -1;                                                  // Winning is tested in testWin()
+          break;
+        }
+        if (loses(board, list[j])) {
+          losing++;
+        } else {
+          safe++;
+        }
+      }
+      if (safe > 0 && losing > 0) {
+        // Case 1 [play a move that leaves the opponent no win]
+        int move = search.bestMove(board, 2, 0);
+        assertFalse(board + " " + move, loses(board, move));
+        tested++;
+      }
+    }
+    assertTrue(tested >= 20);
+  }
+
+  @Test // 3
+  public void testScore() throws Exception {                          // bestMove score expected to match negamax
+    UltimateSearch search = new UltimateSearch();
+    for (UltimateBoard board : sample(60, 3)) {
+      long macro = board.macro;
+      int move = search.bestMove(board, 3, 0);
+      // Case 1 [same score, and the move returned has it]
+      assertEquals(negamax(board, 3), search.score);
+      if (Math.abs(search.score) < UltimateSearch.WIN - 100) {        // A proven result may be reached sooner
+        assertEquals(3, search.depth);
+        assertEquals(search.score, -negamax(board.move(move), 2) - 1);
+      }
+      // Case 2 [the board passed in is left as it was]
+      assertEquals(macro, board.macro);
+    }
+  }
+
+  @Test // 4
+  public void testBudget() throws Exception {                         // bestMove expected to:
+    UltimateSearch search = new UltimateSearch();
+    int[] list = new int[81];
+    // Case 1 [stop within the budget with a legal move]
+    for (UltimateBoard board : sample(3, 4)) {
+      long start = System.nanoTime();
+      int move = search.bestMove(board, Integer.MAX_VALUE, 200);
+      assertTrue(search.stopped                                       // Stopped by the budget, unless the result was
+          || Math.abs(search.score) > UltimateSearch.PROVEN           // settled first
+          || search.depth == 81);
+      assertTrue(System.nanoTime() - start < 10200000000L);           // (a margin only ignoring the budget exceeds)
+      assertTrue(search.depth > 0);
+      int count = board.moves(list);
+      boolean legal = false;
+      for (int j = 0; j < count; j++) {
+        legal |= list[j] == move;
+      }
+      assertTrue(legal);
+    }
+    // Case 2 [return -1 once the game is over]
+    UltimateBoard board = new UltimateBoard();
+    while (!board.gameEnd()) {
+      board.play(search.bestMove(board, 2, 0));
+    }
+    assertEquals(-1, search.bestMove(board, 4, 0));
+  }
+}